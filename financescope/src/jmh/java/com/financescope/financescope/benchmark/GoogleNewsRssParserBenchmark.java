@@ -0,0 +1,95 @@
+package com.financescope.financescope.benchmark;
+
+import com.financescope.financescope.util.RssStreamParser;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구글 뉴스 RSS 파싱 비교: Jsoup DOM + selectFirst (기존 방식) vs StAX 스트리밍
+ *
+ * itemCount 개 item 을 가진 피드에서 maxResults 개를 읽는 시간을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GoogleNewsRssParserBenchmark {
+
+    private static final String FEED_URL = "https://news.google.com/rss/search?q=test&hl=ko&gl=KR&ceid=KR:ko";
+
+    @Param({"100"})
+    private int itemCount;
+
+    @Param({"10", "100"})
+    private int maxResults;
+
+    private String rss;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+          .append("<rss version=\"2.0\" xmlns:media=\"http://search.yahoo.com/mrss/\"><channel>")
+          .append("<title>\"test\" - Google 뉴스</title><link>https://news.google.com/</link>")
+          .append("<language>ko</language><description>Google 뉴스</description>");
+
+        for (int i = 0; i < itemCount; i++) {
+            sb.append("<item>")
+              .append("<title>코스피 ").append(i).append("번째 기사 제목, 외국인 순매수 지속 - 경제신문</title>")
+              .append("<link>https://news.google.com/rss/articles/CBMi").append(i).append("abcdefghijklmnop?oc=5</link>")
+              .append("<guid isPermaLink=\"false\">CBMi").append(i).append("</guid>")
+              .append("<pubDate>Mon, 13 Oct 2025 0").append(i % 10).append(":15:00 GMT</pubDate>")
+              .append("<description>&lt;a href=\"https://news.google.com/rss/articles/CBMi").append(i)
+              .append("\" target=\"_blank\"&gt;코스피 기사 요약 ").append(i)
+              .append("&lt;/a&gt;&amp;nbsp;&amp;nbsp;&lt;font color=\"#6f6f6f\"&gt;경제신문&lt;/font&gt;</description>")
+              .append("<source url=\"https://www.example.co.kr\">경제신문</source>")
+              .append("</item>");
+        }
+
+        sb.append("</channel></rss>");
+        rss = sb.toString();
+    }
+
+    @Benchmark
+    public void jsoupDom(Blackhole blackhole) {
+        Document doc = Jsoup.parse(rss, FEED_URL, Parser.xmlParser());
+        int count = 0;
+
+        for (Element item : doc.select("item")) {
+            if (count >= maxResults) {
+                break;
+            }
+            blackhole.consume(item.selectFirst("title").text());
+            blackhole.consume(item.selectFirst("link").text());
+            blackhole.consume(item.selectFirst("description").text());
+            blackhole.consume(item.selectFirst("pubDate").text());
+            count++;
+        }
+    }
+
+    @Benchmark
+    public void staxStreaming(Blackhole blackhole) throws Exception {
+        try (RssStreamParser parser = RssStreamParser.open(new StringReader(rss))) {
+            int count = 0;
+            RssStreamParser.RssItem item;
+
+            while (count < maxResults && (item = parser.next()) != null) {
+                blackhole.consume(item);
+                count++;
+            }
+        }
+    }
+}
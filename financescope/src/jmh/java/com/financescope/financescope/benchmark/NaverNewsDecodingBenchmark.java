@@ -0,0 +1,83 @@
+package com.financescope.financescope.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financescope.financescope.dto.news.NaverSearchDTO;
+import com.financescope.financescope.util.HtmlText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네이버 검색 API 응답 처리 비교: Map 디코딩 + replaceAll (기존 방식) vs 레코드 디코딩 + HtmlText
+ *
+ * itemCount 개 item 을 가진 응답 본문을 디코딩하고 제목 / 요약의 태그와 엔티티를 지우는 시간을 측정합니다.
+ * (-prof gc 로 항목당 할당량도 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NaverNewsDecodingBenchmark {
+
+    @Param({"100"})
+    private int itemCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"lastBuildDate\":\"Mon, 13 Oct 2025 09:15:00 +0900\",\"total\":48213,\"start\":1,\"display\":")
+          .append(itemCount).append(",\"items\":[");
+
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"title\":\"<b>코스피</b> ").append(i).append("번째 기사, &quot;외국인 순매수&quot; 지속\",")
+              .append("\"originallink\":\"https://www.example.co.kr/news/").append(i).append("\",")
+              .append("\"link\":\"https://n.news.naver.com/mnews/article/001/00").append(i).append("\",")
+              .append("\"description\":\"<b>코스피</b>가 외국인 매수세에 힘입어 상승 마감했다. 반도체 업종이 강세를 보였고 ")
+              .append("&apos;2차전지&apos; 관련주는 혼조세를 나타냈다. 기사 ").append(i).append("\",")
+              .append("\"pubDate\":\"Mon, 13 Oct 2025 0").append(i % 10).append(":15:00 +0900\"}");
+        }
+
+        sb.append("]}");
+        body = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void mapWithRegex(Blackhole blackhole) throws Exception {
+        Map<String, Object> response = objectMapper.readValue(body, Map.class);
+        for (Map<String, Object> item : (List<Map<String, Object>>) response.get("items")) {
+            blackhole.consume(((String) item.get("title")).replaceAll("<[^>]*>", "").replaceAll("&[^;]+;", "").trim());
+            blackhole.consume(((String) item.get("description")).replaceAll("<[^>]*>", "").replaceAll("&[^;]+;", "").trim());
+            blackhole.consume(item.get("link"));
+            blackhole.consume(item.get("pubDate"));
+        }
+    }
+
+    @Benchmark
+    public void recordWithScanner(Blackhole blackhole) throws Exception {
+        NaverSearchDTO.NewsResponse response = objectMapper.readValue(body, NaverSearchDTO.NewsResponse.class);
+        for (NaverSearchDTO.NewsItem item : response.items()) {
+            blackhole.consume(HtmlText.strip(item.title()));
+            blackhole.consume(HtmlText.strip(item.description()));
+            blackhole.consume(item.link());
+            blackhole.consume(item.pubDate());
+        }
+    }
+}
@@ -1,55 +1,185 @@
 package com.financescope.financescope.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
+/**
+ * 외부 호출용 WebClient 설정
+ *
+ * 업스트림 호스트마다 전용 ConnectionProvider(keep-alive 커넥션 풀)를 두고,
+ * 서비스들은 요청마다 build() 하지 않고 아래의 공유 WebClient 빈을 주입받아 사용합니다.
+ *
+ * 풀 설정은 app.http.* 기본값을 따르며, 호스트별로 app.http.{host-id}.* 로 덮어쓸 수 있습니다.
+ * (host-id: naver-api, naver-search, google-news, article-fetch, huggingface, openai)
+ */
 @Configuration
+@Slf4j
 public class WebClientConfig {
 
+    private final Environment environment;
+
+    @Value("${app.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${app.http.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${app.http.pending-acquire-timeout:10000}")
+    private long pendingAcquireTimeout;
+
+    @Value("${app.http.max-idle-time:30000}")
+    private long maxIdleTime;
+
+    @Value("${app.http.max-life-time:300000}")
+    private long maxLifeTime;
+
+    @Value("${app.http.evict-interval:60000}")
+    private long evictInterval;
+
+    @Value("${app.http.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    @Value("${app.http.connect-timeout:5000}")
+    private int connectTimeout;
+
+    @Value("${app.http.response-timeout:10000}")
+    private long responseTimeout;
+
+    @Value("${app.crawling.user-agent:FinanceScope-Bot/1.0}")
+    private String crawlerUserAgent;
+
+    public WebClientConfig(Environment environment) {
+        this.environment = environment;
+    }
+
     /**
      * WebClient.Builder 빈 등록 (기본 설정)
      */
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder()
-                .codecs(configurer -> 
+                .codecs(configurer ->
                     configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024) // 10MB
                 );
     }
 
     /**
-     * 뉴스 크롤링용 WebClient
+     * 뉴스 크롤링용 WebClient (네이버 검색 Open API)
      */
     @Bean("newsCrawlerWebClient")
     public WebClient newsCrawlerWebClient(WebClient.Builder webClientBuilder) {
-        return webClientBuilder
-                .baseUrl("https://api.example.com") // 실제 뉴스 API URL로 변경
-                .defaultHeader("User-Agent", "FinanceScope-Crawler/1.0")
+        return pooledClient(webClientBuilder, "naver-api")
+                .defaultHeader("User-Agent", crawlerUserAgent)
+                .build();
+    }
+
+    /**
+     * 네이버 뉴스 검색 페이지 스크래핑용 WebClient
+     */
+    @Bean("naverSearchWebClient")
+    public WebClient naverSearchWebClient(WebClient.Builder webClientBuilder) {
+        return scrapingClient(webClientBuilder, "naver-search")
+                .defaultHeader("User-Agent", crawlerUserAgent)
+                .build();
+    }
+
+    /**
+     * 구글 뉴스 RSS 수집용 WebClient
+     */
+    @Bean("googleNewsWebClient")
+    public WebClient googleNewsWebClient(WebClient.Builder webClientBuilder) {
+        return scrapingClient(webClientBuilder, "google-news")
+                .defaultHeader("User-Agent", crawlerUserAgent)
+                .build();
+    }
+
+    /**
+     * 기사 본문 수집용 WebClient (언론사 원문 페이지, 크롤링 작업과 별도 풀 사용)
+     */
+    @Bean("articleFetchWebClient")
+    public WebClient articleFetchWebClient(WebClient.Builder webClientBuilder) {
+        return scrapingClient(webClientBuilder, "article-fetch")
+                .defaultHeader("User-Agent", crawlerUserAgent)
+                .defaultHeader("Accept", "text/html,application/xhtml+xml")
                 .build();
     }
 
     /**
-     * 감성 분석용 WebClient
+     * Hugging Face Inference API용 WebClient (감성 분석, 요약 공용)
      */
-    @Bean("sentimentAnalysisWebClient")
-    public WebClient sentimentAnalysisWebClient(WebClient.Builder webClientBuilder) {
-        return webClientBuilder
-                .baseUrl("https://sentiment-api.example.com") // 실제 감성 분석 API URL로 변경
+    @Bean("huggingfaceWebClient")
+    public WebClient huggingfaceWebClient(WebClient.Builder webClientBuilder) {
+        return pooledClient(webClientBuilder, "huggingface")
                 .defaultHeader("Content-Type", "application/json")
                 .build();
     }
 
     /**
-     * 요약 서비스용 WebClient
+     * OpenAI API용 WebClient (감성 분석, 요약 공용)
      */
-    @Bean("summarizationWebClient")
-    public WebClient summarizationWebClient(WebClient.Builder webClientBuilder) {
-        return webClientBuilder
-                .baseUrl("https://summarization-api.example.com") // 실제 요약 API URL로 변경
+    @Bean("openaiWebClient")
+    public WebClient openaiWebClient(WebClient.Builder webClientBuilder) {
+        return pooledClient(webClientBuilder, "openai")
                 .defaultHeader("Content-Type", "application/json")
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 공유 빌더를 변경하지 않도록 복제한 뒤, 호스트 전용 커넥션 풀을 연결합니다.
+     */
+    private WebClient.Builder pooledClient(WebClient.Builder webClientBuilder, String hostId) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(hostId, false)));
+    }
+
+    /**
+     * 웹 페이지 / 피드 수집용 - 언론사와 포털이 http→https, 모바일 주소 등으로 돌려보내므로 리다이렉트를 따라감
+     */
+    private WebClient.Builder scrapingClient(WebClient.Builder webClientBuilder, String hostId) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(hostId, true)));
+    }
+
+    private HttpClient httpClient(String hostId, boolean followRedirect) {
+        ConnectionProvider provider = ConnectionProvider.builder(hostId)
+                .maxConnections(hostSetting(hostId, "max-connections", Integer.class, maxConnections))
+                .pendingAcquireMaxCount(hostSetting(hostId, "pending-acquire-max-count", Integer.class, pendingAcquireMaxCount))
+                .pendingAcquireTimeout(Duration.ofMillis(hostSetting(hostId, "pending-acquire-timeout", Long.class, pendingAcquireTimeout)))
+                .maxIdleTime(Duration.ofMillis(hostSetting(hostId, "max-idle-time", Long.class, maxIdleTime)))
+                .maxLifeTime(Duration.ofMillis(hostSetting(hostId, "max-life-time", Long.class, maxLifeTime)))
+                .evictInBackground(Duration.ofMillis(hostSetting(hostId, "evict-interval", Long.class, evictInterval)))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .keepAlive(true)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, hostSetting(hostId, "connect-timeout", Integer.class, connectTimeout))
+                .responseTimeout(Duration.ofMillis(hostSetting(hostId, "response-timeout", Long.class, responseTimeout)))
+                .followRedirect(hostSetting(hostId, "follow-redirect", Boolean.class, followRedirect));
+
+        // HTTP/2는 TLS(ALPN) 협상으로 지원되는 서버에서만 사용되고, 나머지는 HTTP/1.1로 동작
+        if (hostSetting(hostId, "http2-enabled", Boolean.class, http2Enabled)) {
+            httpClient = httpClient
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .secure();
+        }
+
+        log.info("HTTP 커넥션 풀 생성 - {}", hostId);
+        return httpClient;
+    }
+
+    private <T> T hostSetting(String hostId, String key, Class<T> type, T defaultValue) {
+        return environment.getProperty("app.http." + hostId + "." + key, type, defaultValue);
+    }
+}
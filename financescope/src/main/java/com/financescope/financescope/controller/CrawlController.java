@@ -2,14 +2,15 @@ package com.financescope.financescope.controller;
 
 import com.financescope.financescope.dto.CrawlRequest;
 import com.financescope.financescope.dto.CrawlResponse;
+import com.financescope.financescope.dto.CrawlResultsResponse;
 import com.financescope.financescope.dto.CrawlStatusResponse;
 import com.financescope.financescope.service.CrawlService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.UUID;
-
 @RestController
 @RequestMapping("/api/crawl")
 @RequiredArgsConstructor
@@ -17,25 +18,43 @@ public class CrawlController {
 
     private final CrawlService crawlService;
 
+    // 로그인한 경우 사용자 작업으로, 아니면 익명 작업으로 실행
     @PostMapping("/start")
-    public ResponseEntity<CrawlResponse> startCrawling(@RequestBody CrawlRequest request) {
-        String jobId = UUID.randomUUID().toString();
-        crawlService.startCrawling(jobId, request);
+    public ResponseEntity<CrawlResponse> startCrawling(@RequestBody CrawlRequest request, Authentication authentication) {
+        String jobId = crawlService.startCrawling(request, userEmail(authentication));
         return ResponseEntity.ok(new CrawlResponse(jobId));
     }
 
     @GetMapping("/status/{jobId}")
-    public ResponseEntity<CrawlStatusResponse> getCrawlStatus(@PathVariable String jobId) {
-        CrawlStatusResponse status = crawlService.getStatus(jobId);
+    public ResponseEntity<CrawlStatusResponse> getCrawlStatus(@PathVariable String jobId, Authentication authentication) {
+        CrawlStatusResponse status = crawlService.getStatus(jobId, userEmail(authentication));
         if (status == null) {
             return ResponseEntity.notFound().build();
         }
         return ResponseEntity.ok(status);
     }
 
+    // after: 마지막으로 받은 결과 순번 (처음에는 0), 응답의 cursor 를 다음 요청에 넘김
+    @GetMapping("/{jobId}/results")
+    public ResponseEntity<CrawlResultsResponse> getCrawlResults(@PathVariable String jobId,
+                                                                @RequestParam(defaultValue = "0") long after,
+                                                                @RequestParam(defaultValue = "100") int limit,
+                                                                Authentication authentication) {
+        CrawlResultsResponse results = crawlService.getResults(jobId, after, limit, userEmail(authentication));
+        if (results == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(results);
+    }
+
     @PostMapping("/cancel/{jobId}")
-    public ResponseEntity<Void> cancelCrawling(@PathVariable String jobId) {
-        crawlService.cancelCrawling(jobId);
+    public ResponseEntity<Void> cancelCrawling(@PathVariable String jobId, Authentication authentication) {
+        crawlService.cancelCrawling(jobId, userEmail(authentication));
         return ResponseEntity.ok().build();
     }
+
+    // 익명 인증은 사용자 없음으로 취급 (JobEventController 에서도 사용)
+    static String userEmail(Authentication authentication) {
+        return authentication != null && !(authentication instanceof AnonymousAuthenticationToken) ? authentication.getName() : null;
+    }
 }
@@ -0,0 +1,32 @@
+package com.financescope.financescope.controller;
+
+import com.financescope.financescope.service.external.CrawlCircuitBreakers;
+import com.financescope.financescope.service.external.CrawlConcurrencyLimiter;
+import com.financescope.financescope.service.external.CrawlRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 출처별 크롤링 한도 / 회로 상태 조회 (/actuator/crawllimits)
+ */
+@Component
+@Endpoint(id = "crawllimits")
+@RequiredArgsConstructor
+public class CrawlLimitsEndpoint {
+
+    private final CrawlConcurrencyLimiter crawlConcurrencyLimiter;
+    private final CrawlRateLimiter crawlRateLimiter;
+    private final CrawlCircuitBreakers crawlCircuitBreakers;
+
+    @ReadOperation
+    public Map<String, Object> limits() {
+        return Map.of(
+                "concurrency", crawlConcurrencyLimiter.getLimits(),
+                "rateLimitTokens", crawlRateLimiter.getAvailableTokens(),
+                "circuitBreakers", crawlCircuitBreakers.getStates());
+    }
+}
@@ -0,0 +1,31 @@
+package com.financescope.financescope.controller;
+
+import com.financescope.financescope.service.JobEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Job Events", description = "작업 진행 이벤트 스트림 API")
+public class JobEventController {
+
+    private final JobEventService jobEventService;
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "작업 이벤트 구독",
+            description = "크롤링(jobId), 예측(prediction-{id}), 리포트(report-{reportId}) 작업의 진행률, 단계 변경, 종료를 SSE로 전달합니다.")
+    public SseEmitter subscribe(@PathVariable String jobId, Authentication authentication) {
+        String userEmail = CrawlController.userEmail(authentication);
+        log.info("작업 이벤트 구독 - 작업ID: {}, 사용자: {}", jobId, userEmail);
+
+        return jobEventService.subscribe(jobId, userEmail);
+    }
+}
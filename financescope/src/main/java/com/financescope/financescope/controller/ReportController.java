@@ -22,7 +22,7 @@ public class ReportController {
     private final ReportService reportService;
 
     @PostMapping("/generate")
-    @Operation(summary = "리포트 생성", description = "분석 결과를 바탕으로 리포트를 생성합니다.")
+    @Operation(summary = "리포트 생성", description = "분석 결과를 바탕으로 리포트 생성을 시작하고 리포트 ID 를 바로 반환합니다. 진행 상황은 /api/jobs/report-{reportId}/events 로 구독합니다.")
     public ResponseEntity<ReportDTO.ReportGenerationResponse> generateReport(
             @Valid @RequestBody ReportDTO.ReportGenerationRequest request,
             Authentication authentication) {
@@ -0,0 +1,22 @@
+package com.financescope.financescope.dto;
+
+import com.financescope.financescope.dto.news.NewsDTO;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 크롤링 결과 증분 조회 응답
+ * 다음 요청에는 cursor 를 after 로 넘기고, completed 이면서 hasMore 가 false 이면 결과를 모두 받은 것입니다.
+ */
+@Data
+@Builder
+public class CrawlResultsResponse {
+    private String jobId;
+    private List<NewsDTO.NewsResponse> items;
+    // 마지막으로 받은 결과 순번 (다음 요청의 after)
+    private long cursor;
+    private boolean hasMore;
+    private boolean completed;
+}
@@ -1,16 +1,14 @@
 package com.financescope.financescope.dto;
 
-import com.financescope.financescope.entity.News;
 import lombok.Builder;
 import lombok.Data;
 
-import java.util.List;
-
+// 수집 결과는 건수만 담고, 기사 목록은 /api/crawl/{jobId}/results 로 커서 이후만 조회
 @Data
 @Builder
 public class CrawlStatusResponse {
     private String status;
     private int progress;
-    private List<News> results;
+    private int newsCount;
     private String error;
 }
@@ -0,0 +1,23 @@
+package com.financescope.financescope.dto.job;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+public class JobEventDTO {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobEvent {
+        private String jobId;
+        private String jobType; // crawl, prediction, report
+        private String status; // PENDING, RUNNING, COMPLETED, FAILED, CANCELLED
+        private String stage;
+        private Integer progress;
+        private String message;
+        private Boolean terminal;
+        private LocalDateTime timestamp;
+    }
+}
@@ -0,0 +1,19 @@
+package com.financescope.financescope.dto.news;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * 네이버 뉴스 검색 API 응답 - 필요한 필드만 레코드로 바로 읽고 나머지는 건너뜁니다.
+ */
+public class NaverSearchDTO {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record NewsResponse(long total, int start, int display, List<NewsItem> items) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record NewsItem(String title, String originallink, String link, String description, String pubDate) {
+    }
+}
@@ -78,6 +78,8 @@ public class NewsDTO {
         private LocalDateTime publishedDate;
         private Double sentimentScore;
         private String sentimentLabel;
+        // 근사 중복이면 대표 기사 id
+        private Long canonicalNewsId;
         private List<String> relatedIndicators;
         private List<String> extractedKeywords;
     }
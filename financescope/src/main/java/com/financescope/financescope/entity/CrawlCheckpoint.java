@@ -0,0 +1,37 @@
+package com.financescope.financescope.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 작업의 키워드별 완료 기록 (해당 키워드 결과가 모두 저장된 시점에 기록)
+ */
+@Entity
+@Table(name = "crawl_checkpoint",
+    uniqueConstraints = @UniqueConstraint(name = "uk_crawl_checkpoint_job_keyword", columnNames = {"job_id", "keyword"}))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CrawlCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Column(nullable = false, length = 200)
+    private String keyword;
+
+    @CreatedDate
+    @Column(name = "completed_at", nullable = false, updatable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,74 @@
+package com.financescope.financescope.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 작업 체크포인트 (재시작 시 이어서 실행하기 위한 요청 정보와 상태)
+ * 분산 실행 시에는 인스턴스 간에 공유되는 작업 상태이며, 키워드별 실행 단위는 CrawlTask 입니다.
+ */
+@Entity
+@Table(name = "crawl_job", indexes = {
+    @Index(name = "idx_crawl_job_status", columnList = "status"),
+    @Index(name = "idx_crawl_job_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CrawlJob {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    // 엔티티 대신 id 만 보관
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "keywords", columnDefinition = "JSON", nullable = false)
+    private String keywords;
+
+    @Column(nullable = false, length = 50)
+    private String source;
+
+    @Column(name = "sort_by", length = 20)
+    private String sortBy;
+
+    @Column(name = "max_results")
+    private Integer maxResults;
+
+    @Column(nullable = false, length = 20)
+    private String status; // QUEUED(분산 실행 - 종료 전까지 유지), RUNNING, COMPLETED, FAILED, CANCELLED
+
+    @Column(name = "news_count")
+    private Integer newsCount;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    // 로컬 실행 중인 인스턴스와 마지막 하트비트 (재시작 시 다른 인스턴스에서 살아 있는 작업을 재개하지 않도록)
+    @Column(name = "owner_instance", length = 100)
+    private String ownerInstance;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,74 @@
+package com.financescope.financescope.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분산 크롤링의 키워드 단위 작업 (여러 인스턴스가 임대(lease)를 잡아 나눠 실행)
+ */
+@Entity
+@Table(name = "crawl_task",
+    uniqueConstraints = @UniqueConstraint(name = "uk_crawl_task_job_keyword", columnNames = {"job_id", "keyword"}),
+    indexes = {
+        @Index(name = "idx_crawl_task_status_lease", columnList = "status, lease_expires_at"),
+        @Index(name = "idx_crawl_task_user_status", columnList = "user_id, status")
+    })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CrawlTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Column(nullable = false, length = 200)
+    private String keyword;
+
+    @Column(nullable = false, length = 20)
+    private String status; // PENDING, LEASED, DONE, FAILED, CANCELLED
+
+    // 작업 사용자와 구독 플랜 가중치 (임대 순서를 사용자별로 공정하게 나누는 데 사용, 익명 작업은 user_id null)
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer weight = 1;
+
+    // 임대 중인 인스턴스와 만료 시각 (만료되면 다른 인스턴스가 가져갈 수 있음)
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "news_count")
+    private Integer newsCount;
+
+    @Column(length = 1000)
+    private String error;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
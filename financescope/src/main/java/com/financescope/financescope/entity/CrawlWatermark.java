@@ -0,0 +1,47 @@
+package com.financescope.financescope.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 / 키워드 / 수집 출처별 증분 크롤링 기준점 (마지막으로 저장한 가장 최신 기사)
+ */
+@Entity
+@Table(name = "crawl_watermark",
+    uniqueConstraints = @UniqueConstraint(name = "uk_crawl_watermark_user_keyword_source", columnNames = {"user_id", "keyword", "source"}))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CrawlWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 200)
+    private String keyword;
+
+    // 수집 출처 호스트 (예: openapi.naver.com, search.naver.com, news.google.com)
+    @Column(nullable = false, length = 100)
+    private String source;
+
+    @Column(name = "latest_published_date")
+    private LocalDateTime latestPublishedDate;
+
+    @Column(name = "last_content_hash", length = 64)
+    private String lastContentHash;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -14,7 +14,9 @@ import java.util.List;
     @Index(name = "idx_news_published_date", columnList = "publishedDate"),
     @Index(name = "idx_news_source", columnList = "source"),
     @Index(name = "idx_news_keyword", columnList = "keyword"),
-    @Index(name = "idx_news_category", columnList = "category")
+    @Index(name = "idx_news_category", columnList = "category"),
+    @Index(name = "idx_news_canonical_news_id", columnList = "canonical_news_id"),
+    @Index(name = "idx_news_crawl_job_result_seq", columnList = "crawl_job_id, result_seq")
 })
 @Getter
 @Setter
@@ -37,6 +39,10 @@ public class News {
     @Column(columnDefinition = "TEXT")
     private String summary;
 
+    // 요약을 만든 모델과 최대 길이 (model|maxLength, 검색 스니펫처럼 모델이 만들지 않은 요약은 null)
+    @Column(name = "summary_model", length = 150)
+    private String summaryModel;
+
     @Column(name = "original_url", nullable = false, length = 2000)
     private String originalUrl;
 
@@ -81,11 +87,26 @@ public class News {
     @Column(name = "content_hash", unique = true)
     private String contentHash;
 
+    // 근사 중복 판별용 SimHash 지문 (제목 + 본문)
+    @Column(name = "simhash")
+    private Long simhash;
+
+    // 다른 언론사가 먼저 낸 같은 기사의 id (대표 기사는 null)
+    @Column(name = "canonical_news_id")
+    private Long canonicalNewsId;
+
     // 처리 상태
     @Enumerated(EnumType.STRING)
     @Builder.Default
     private ProcessingStatus processingStatus = ProcessingStatus.RAW;
 
+    // 일시적인 오류로 실패한 본문 추출 시도 횟수와 다음 시도 가능 시각
+    @Column(name = "extraction_attempts")
+    private Integer extractionAttempts;
+
+    @Column(name = "next_extraction_at")
+    private LocalDateTime nextExtractionAt;
+
     // 언어
     @Builder.Default
     private String language = "ko";
@@ -94,6 +115,10 @@ public class News {
     @Column(name = "crawl_job_id")
     private String crawlJobId;
 
+    // 작업 안에서 커밋 순서대로 매기는 결과 순번 (결과 증분 조회 커서, 매기기 전에는 null)
+    @Column(name = "result_seq")
+    private Long resultSeq;
+
     // 통계 정보
     @Column(name = "view_count")
     @Builder.Default
@@ -141,6 +166,15 @@ public class News {
         return sentimentScore != null && sentimentLabel != null;
     }
 
+    // 같은 기사 묶음의 대표 id (근사 중복이면 대표 기사, 아니면 자기 자신)
+    public Long getStoryId() {
+        return canonicalNewsId != null ? canonicalNewsId : id;
+    }
+
+    public boolean isNearDuplicate() {
+        return canonicalNewsId != null;
+    }
+
     // Enum 정의
     public enum SentimentLabel {
         POSITIVE, NEGATIVE, NEUTRAL
@@ -0,0 +1,27 @@
+package com.financescope.financescope.repository;
+
+import com.financescope.financescope.entity.CrawlCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface CrawlCheckpointRepository extends JpaRepository<CrawlCheckpoint, Long> {
+
+    // 작업의 완료된 키워드 목록
+    @Query("SELECT c.keyword FROM CrawlCheckpoint c WHERE c.jobId = :jobId")
+    List<String> findCompletedKeywords(@Param("jobId") String jobId);
+
+    boolean existsByJobIdAndKeyword(String jobId, String keyword);
+
+    // 끝난 작업의 체크포인트 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CrawlCheckpoint c WHERE c.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") String jobId);
+}
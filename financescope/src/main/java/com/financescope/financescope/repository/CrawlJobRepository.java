@@ -0,0 +1,57 @@
+package com.financescope.financescope.repository;
+
+import com.financescope.financescope.entity.CrawlJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CrawlJobRepository extends JpaRepository<CrawlJob, String> {
+
+    // 상태별 작업 조회 (재시작 시 중단된 RUNNING 작업 찾기)
+    List<CrawlJob> findByStatus(String status);
+
+    // 이 인스턴스가 실행 중인 작업의 하트비트 갱신
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlJob j SET j.heartbeatAt = :now " +
+            "WHERE j.jobId IN :jobIds AND j.ownerInstance = :owner AND j.status = 'RUNNING'")
+    int heartbeat(@Param("jobIds") Collection<String> jobIds, @Param("owner") String owner,
+                  @Param("now") LocalDateTime now);
+
+    // 중단된 작업 재개 권한 획득 - 이 인스턴스 소유이거나 하트비트가 끊긴 작업만, 여러 인스턴스가 시도해도 한 곳만 1
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlJob j SET j.ownerInstance = :owner, j.heartbeatAt = :now " +
+            "WHERE j.jobId = :jobId AND j.status = 'RUNNING' " +
+            "AND (j.ownerInstance = :owner OR j.heartbeatAt IS NULL OR j.heartbeatAt < :expiredBefore)")
+    int claimForResume(@Param("jobId") String jobId, @Param("owner") String owner, @Param("now") LocalDateTime now,
+                       @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    // 사용자별 진행 중인 작업 수 (분산 실행 시 대기 작업 상한)
+    long countByUserIdAndStatusIn(Long userId, Collection<String> statuses);
+
+    // 작업 종료 판단을 인스턴스 간에 직렬화하기 위한 행 잠금 (같은 작업의 마지막 키워드가 동시에 끝나는 경우)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM CrawlJob j WHERE j.jobId = :jobId")
+    Optional<CrawlJob> lockById(@Param("jobId") String jobId);
+
+    // 아직 끝나지 않은 작업만 종료 상태로 변경 - 여러 인스턴스가 동시에 시도해도 한 곳만 1 을 받음
+    // (같은 트랜잭션에서 읽어 둔 작업 엔티티가 이전 상태로 남지 않도록 영속성 컨텍스트를 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE CrawlJob j SET j.status = :status, j.newsCount = :newsCount, j.error = :error, j.endedAt = :endedAt " +
+            "WHERE j.jobId = :jobId AND j.status IN ('QUEUED', 'RUNNING')")
+    int finishIfActive(@Param("jobId") String jobId, @Param("status") String status, @Param("newsCount") Integer newsCount,
+                       @Param("error") String error, @Param("endedAt") LocalDateTime endedAt);
+}
@@ -0,0 +1,64 @@
+package com.financescope.financescope.repository;
+
+import com.financescope.financescope.entity.CrawlTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CrawlTaskRepository extends JpaRepository<CrawlTask, Long> {
+
+    /**
+     * 한 사용자(익명 작업은 0)의 가져갈 수 있는 작업(대기 중이거나 임대가 만료된 작업)을 오래된 순으로 잠급니다.
+     * 호출한 트랜잭션 안에서만 유효합니다. 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛰므로,
+     * 여러 인스턴스가 동시에 호출해도 서로 다른 작업을 받습니다.
+     */
+    @Query(value = "SELECT * FROM crawl_task " +
+            "WHERE COALESCE(user_id, 0) = :userKey " +
+            "AND (status = 'PENDING' OR (status = 'LEASED' AND lease_expires_at < :now)) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<CrawlTask> lockClaimable(@Param("userKey") long userKey, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 가져갈 수 있는 작업이 있는 사용자 [사용자(익명 0), 가중치, 가장 오래된 작업 id]
+    @Query(value = "SELECT COALESCE(user_id, 0), MAX(weight), MIN(id) FROM crawl_task " +
+            "WHERE status = 'PENDING' OR (status = 'LEASED' AND lease_expires_at < :now) " +
+            "GROUP BY COALESCE(user_id, 0)", nativeQuery = true)
+    List<Object[]> findClaimableUsers(@Param("now") LocalDateTime now);
+
+    // 사용자별 실행 중(임대가 살아 있는) 작업 수 [사용자(익명 0), 개수]
+    @Query(value = "SELECT COALESCE(user_id, 0), COUNT(*) FROM crawl_task " +
+            "WHERE status = 'LEASED' AND lease_expires_at >= :now " +
+            "GROUP BY COALESCE(user_id, 0)", nativeQuery = true)
+    List<Object[]> countLeasedByUser(@Param("now") LocalDateTime now);
+
+    // 임대 연장 - 다른 인스턴스가 가져갔거나 작업이 취소되었으면 0
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlTask t SET t.leaseExpiresAt = :expiresAt " +
+            "WHERE t.id = :id AND t.leaseOwner = :owner AND t.status = 'LEASED'")
+    int renewLease(@Param("id") Long id, @Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 임대 중인 작업의 결과 기록 - 임대를 잃었으면 0
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlTask t SET t.status = :status, t.newsCount = :newsCount, t.error = :error, t.leaseExpiresAt = null " +
+            "WHERE t.id = :id AND t.leaseOwner = :owner AND t.status = 'LEASED'")
+    int release(@Param("id") Long id, @Param("owner") String owner, @Param("status") String status,
+                @Param("newsCount") Integer newsCount, @Param("error") String error);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlTask t SET t.status = 'CANCELLED', t.leaseExpiresAt = null " +
+            "WHERE t.jobId = :jobId AND t.status IN ('PENDING', 'LEASED')")
+    int cancelByJobId(@Param("jobId") String jobId);
+
+    // 작업의 상태별 키워드 수와 저장된 뉴스 수 [status, count, newsCount]
+    @Query("SELECT t.status, COUNT(t), COALESCE(SUM(t.newsCount), 0) FROM CrawlTask t WHERE t.jobId = :jobId GROUP BY t.status")
+    List<Object[]> summarizeByJobId(@Param("jobId") String jobId);
+}
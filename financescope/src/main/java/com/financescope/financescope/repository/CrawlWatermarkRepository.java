@@ -0,0 +1,18 @@
+package com.financescope.financescope.repository;
+
+import com.financescope.financescope.entity.CrawlWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CrawlWatermarkRepository extends JpaRepository<CrawlWatermark, Long> {
+
+    // 작업 시작 시 키워드들의 기준점을 한 번에 조회
+    List<CrawlWatermark> findByUserIdAndKeywordIn(Long userId, Collection<String> keywords);
+
+    Optional<CrawlWatermark> findByUserIdAndKeywordAndSource(Long userId, String keyword, String source);
+}
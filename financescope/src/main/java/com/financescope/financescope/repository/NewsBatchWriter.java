@@ -0,0 +1,170 @@
+package com.financescope.financescope.repository;
+
+import com.financescope.financescope.entity.News;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤링 결과 일괄 저장용 JDBC 배치 writer
+ *
+ * News 는 IDENTITY 키 전략이라 Hibernate 가 INSERT 를 배치로 묶지 못하므로,
+ * 크롤러는 JPA saveAll 대신 이 클래스로 청크 단위 배치 INSERT 를 수행합니다.
+ * INSERT IGNORE 를 사용하므로 content_hash 중복 행은 작업 전체를 실패시키지 않고 건너뜁니다.
+ * JDBC 배치는 rewriteBatchedStatements=true 일 때 행별 결과 대신 SUCCESS_NO_INFO 만 돌려주므로,
+ * 다중 VALUES INSERT 문을 직접 만들어 문장 전체의 영향 행 수로 실제 삽입 건수를 셉니다.
+ * 저장된 행에는 따로 작업별 결과 순번(result_seq)을 커밋 순서대로 매겨, 결과 증분 조회의 커서로 씁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class NewsBatchWriter {
+
+    private static final String INSERT_IGNORE_PREFIX =
+            "INSERT IGNORE INTO news (title, content, summary, original_url, source, keyword, category, " +
+            "published_date, crawled_date, content_hash, processing_status, language, crawl_job_id, " +
+            "view_count, analysis_count, created_at, updated_at, collected_by_user_id, simhash) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 19;
+
+    // 문장 하나에 담을 최대 행 수 (max_allowed_packet 과 자리표시자 수 제한 안쪽으로 유지)
+    private static final int MAX_ROWS_PER_STATEMENT = 100;
+
+    private static final String UPDATE_CANONICAL_SQL =
+            "UPDATE news SET canonical_news_id = ?, processing_status = CASE WHEN processing_status = 'RAW' " +
+            "THEN 'CONTENT_EXTRACTED' ELSE processing_status END WHERE id = ? AND canonical_news_id IS NULL";
+
+    private static final String LOCK_CRAWL_JOB_SQL = "SELECT job_id FROM crawl_job WHERE job_id = ? FOR UPDATE";
+    private static final String MAX_RESULT_SEQ_SQL = "SELECT COALESCE(MAX(result_seq), 0) FROM news WHERE crawl_job_id = ?";
+    private static final String UNSEQUENCED_IDS_SQL =
+            "SELECT id FROM news WHERE crawl_job_id = ? AND result_seq IS NULL ORDER BY id FOR UPDATE";
+    private static final String UPDATE_RESULT_SEQ_SQL = "UPDATE news SET result_seq = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 뉴스 목록을 배치 INSERT 하고, 실제로 삽입된 행 수를 반환합니다. (중복으로 무시된 행 제외)
+     */
+    public int insertIgnoringDuplicates(List<News> newsList) {
+        if (newsList.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = 0;
+        for (int from = 0; from < newsList.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<News> rows = newsList.subList(from, Math.min(newsList.size(), from + MAX_ROWS_PER_STATEMENT));
+            // INSERT IGNORE 로 건너뛴 행은 영향 행 수에 포함되지 않음
+            inserted += jdbcTemplate.update(INSERT_IGNORE_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDERS)),
+                    ps -> {
+                        for (int i = 0; i < rows.size(); i++) {
+                            bindRow(ps, i * COLUMN_COUNT, rows.get(i), now);
+                        }
+                    });
+        }
+
+        log.debug("뉴스 배치 INSERT - 요청: {}개, 삽입: {}개", newsList.size(), inserted);
+        return inserted;
+    }
+
+    private void bindRow(PreparedStatement ps, int offset, News news, LocalDateTime now) throws SQLException {
+        ps.setString(offset + 1, news.getTitle());
+        ps.setString(offset + 2, news.getContent());
+        ps.setString(offset + 3, news.getSummary());
+        ps.setString(offset + 4, news.getOriginalUrl());
+        ps.setString(offset + 5, news.getSource());
+        ps.setString(offset + 6, news.getKeyword());
+        ps.setString(offset + 7, news.getCategory());
+        ps.setObject(offset + 8, news.getPublishedDate());
+        ps.setObject(offset + 9, news.getCrawledDate() != null ? news.getCrawledDate() : now);
+        ps.setString(offset + 10, news.getContentHash());
+        ps.setString(offset + 11, news.getProcessingStatus() != null
+                ? news.getProcessingStatus().name() : News.ProcessingStatus.RAW.name());
+        ps.setString(offset + 12, news.getLanguage() != null ? news.getLanguage() : "ko");
+        ps.setString(offset + 13, news.getCrawlJobId());
+        ps.setLong(offset + 14, news.getViewCount() != null ? news.getViewCount() : 0L);
+        ps.setLong(offset + 15, news.getAnalysisCount() != null ? news.getAnalysisCount() : 0L);
+        ps.setObject(offset + 16, now);
+        ps.setObject(offset + 17, now);
+        if (news.getCollectedByUser() != null) {
+            ps.setLong(offset + 18, news.getCollectedByUser().getId());
+        } else {
+            ps.setNull(offset + 18, Types.BIGINT);
+        }
+        if (news.getSimhash() != null) {
+            ps.setLong(offset + 19, news.getSimhash());
+        } else {
+            ps.setNull(offset + 19, Types.BIGINT);
+        }
+    }
+
+    /**
+     * 작업의 저장된 행 중 순번이 없는 행에 작업별로 이어지는 결과 순번을 매기고, 매긴 행 수를 반환합니다.
+     *
+     * IDENTITY id 는 INSERT 시점에 정해지므로 동시에 저장하는 키워드 작업끼리 id 순서와 커밋 순서가 어긋날 수 있습니다.
+     * 순번은 커밋된 행에만 매기고, 같은 작업의 순번 부여는 앞선 부여가 커밋된 뒤에야 시작되므로(직렬화)
+     * 순번 순서가 곧 조회 가능해진 순서입니다. lockJobRow 면 crawl_job 행 잠금으로 인스턴스 간에 직렬화하고,
+     * 아니면 호출하는 쪽이 작업 단위로 잠가야 합니다.
+     */
+    @Transactional
+    public int assignResultSeq(String crawlJobId, boolean lockJobRow) {
+        if (lockJobRow) {
+            jdbcTemplate.queryForList(LOCK_CRAWL_JOB_SQL, String.class, crawlJobId);
+        }
+        List<Long> ids = jdbcTemplate.queryForList(UNSEQUENCED_IDS_SQL, Long.class, crawlJobId);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        long last = jdbcTemplate.queryForObject(MAX_RESULT_SEQ_SQL, Long.class, crawlJobId);
+        jdbcTemplate.batchUpdate(UPDATE_RESULT_SEQ_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, last + i + 1);
+                ps.setLong(2, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+        return ids.size();
+    }
+
+    /**
+     * 근사 중복 뉴스에 대표 기사 id 를 일괄 기록합니다. (뉴스 id → 대표 기사 id)
+     * 근사 중복은 본문을 따로 받지 않으므로(대표 기사 본문을 씀) RAW 였다면 본문 추출 단계를 넘깁니다.
+     */
+    public void updateCanonicalIds(Map<Long, Long> canonicalIds) {
+        if (canonicalIds.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(canonicalIds.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_CANONICAL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, entries.get(i).getValue());
+                ps.setLong(2, entries.get(i).getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+}
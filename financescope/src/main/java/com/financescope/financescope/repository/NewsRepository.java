@@ -5,11 +5,14 @@ import com.financescope.financescope.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -149,6 +152,10 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     // 크롤 작업 ID로 조회
     List<News> findByCrawlJobIdOrderByCreatedAtDesc(String crawlJobId);
     
+    // 작업이 저장한 뉴스 중 커서(결과 순번) 이후만 순번 순으로 조회 (크롤링 결과 증분 조회)
+    @Query("SELECT n FROM News n WHERE n.crawlJobId = :crawlJobId AND n.resultSeq > :afterSeq ORDER BY n.resultSeq")
+    List<News> findByCrawlJobIdAfterResultSeq(@Param("crawlJobId") String crawlJobId, @Param("afterSeq") Long afterSeq, Pageable pageable);
+    
     // 최근 뉴스 조회 (시간 기준)
     @Query("SELECT n FROM News n WHERE n.collectedByUser.id = :userId " +
            "AND n.createdAt >= :since ORDER BY n.createdAt DESC")
@@ -164,4 +171,58 @@ public interface NewsRepository extends JpaRepository<News, Long> {
         @Param("userId") Long userId, 
         @Param("minQuality") Double minQuality
     );
+    
+    // 중복 필터 재구성용 키셋 페이징 (id, contentHash, originalUrl)
+    @Query("SELECT n.id, n.contentHash, n.originalUrl FROM News n WHERE n.id > :afterId ORDER BY n.id")
+    List<Object[]> findDedupKeysAfterId(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // 주어진 해시 중 이미 저장된 것만 조회
+    @Query("SELECT n.contentHash FROM News n WHERE n.contentHash IN :hashes")
+    List<String> findExistingContentHashes(@Param("hashes") Collection<String> hashes);
+    
+    // 주어진 URL 중 이미 저장된 것만 조회
+    @Query("SELECT n.originalUrl FROM News n WHERE n.originalUrl IN :urls")
+    List<String> findExistingOriginalUrls(@Param("urls") Collection<String> urls);
+    
+    // 주어진 해시의 뉴스 id (id, contentHash)
+    @Query("SELECT n.id, n.contentHash FROM News n WHERE n.contentHash IN :hashes")
+    List<Object[]> findIdsByContentHashes(@Param("hashes") Collection<String> hashes);
+    
+    // 근사 중복 인덱스 적재용 대표 기사 지문 (id, simhash), 최신순 키셋 페이징
+    @Query("SELECT n.id, n.simhash FROM News n WHERE n.simhash IS NOT NULL AND n.canonicalNewsId IS NULL " +
+           "AND n.id < :beforeId ORDER BY n.id DESC")
+    List<Object[]> findCanonicalSimHashesBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+    
+    // 본문 추출 대기 대표 기사 (근사 중복과 재시도 대기 중인 기사는 제외, id 기준 키셋 페이징)
+    @Query("SELECT n FROM News n WHERE n.processingStatus = :status AND n.canonicalNewsId IS NULL " +
+           "AND (n.nextExtractionAt IS NULL OR n.nextExtractionAt <= :now) " +
+           "AND n.id > :afterId ORDER BY n.id")
+    List<News> findByProcessingStatusAfterId(
+        @Param("status") News.ProcessingStatus status,
+        @Param("afterId") Long afterId,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+    
+    // 추출한 본문 기록 - 그 사이 다른 단계로 넘어간 뉴스는 덮어쓰지 않음
+    @Modifying
+    @Transactional
+    @Query("UPDATE News n SET n.content = :content, n.processingStatus = :status " +
+           "WHERE n.id = :id AND n.processingStatus = com.financescope.financescope.entity.News.ProcessingStatus.RAW")
+    int updateExtractedContent(
+        @Param("id") Long id,
+        @Param("content") String content,
+        @Param("status") News.ProcessingStatus status
+    );
+    
+    // 일시적인 오류로 본문 추출 실패 - 시도 횟수를 기록하고 다음 시도를 미룸
+    @Modifying
+    @Transactional
+    @Query("UPDATE News n SET n.extractionAttempts = :attempts, n.nextExtractionAt = :nextAt " +
+           "WHERE n.id = :id AND n.processingStatus = com.financescope.financescope.entity.News.ProcessingStatus.RAW")
+    int updateExtractionRetry(
+        @Param("id") Long id,
+        @Param("attempts") int attempts,
+        @Param("nextAt") LocalDateTime nextAt
+    );
 }
\ No newline at end of file
@@ -9,10 +9,13 @@ import com.financescope.financescope.service.external.ClusteringService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -35,6 +38,9 @@ public class AnalysisService {
     private final CacheService cacheService;
     private final ObjectMapper objectMapper;
 
+    @Value("${external-api.ml.max-concurrent-requests:8}")
+    private int mlMaxConcurrentRequests;
+
     // 경제 지표와 키워드 매핑
     private static final Map<String, List<String>> KEYWORD_INDICATOR_MAPPING = Map.of(
             "금리", Arrays.asList("금리", "기준금리", "이자율", "국채", "통화정책"),
@@ -58,21 +64,56 @@ public class AnalysisService {
         List<AnalysisDTO.SentimentAnalysisResponse> results = new ArrayList<>();
         long startTime = System.currentTimeMillis();
 
+        // 같은 기사(근사 중복)는 대표 기사 기준으로 한 번만 분석
+        Map<Long, News> analyzedStories = new HashMap<>();
+        for (News canonical : findCanonicalNews(newsList).values()) {
+            if (canonical.hasSentimentAnalysis()) {
+                analyzedStories.put(canonical.getId(), canonical);
+            }
+        }
+
+        // 분석할 기사(같은 기사 중 아래 반복에서 처음 분석하게 되는 기사)만 모아 동시에 호출
+        Set<Long> coveredStories = new HashSet<>(analyzedStories.keySet());
+        Map<Long, News> pending = new LinkedHashMap<>();
+        for (News news : newsList) {
+            if (news.getSentimentScore() != null && news.getSentimentLabel() != null) {
+                coveredStories.add(news.getStoryId());
+            } else if (!coveredStories.contains(news.getStoryId())) {
+                pending.putIfAbsent(news.getStoryId(), news);
+            }
+        }
+        Map<Long, SentimentAnalysisService.SentimentResult> sentimentResults = analyzeStories(pending);
+
         for (News news : newsList) {
             try {
                 // 이미 감성 분석이 완료된 경우 기존 결과 사용
                 if (news.getSentimentScore() != null && news.getSentimentLabel() != null) {
+                    analyzedStories.putIfAbsent(news.getStoryId(), news);
+                    results.add(createSentimentResponse(news));
+                    continue;
+                }
+
+                // 같은 기사가 이미 분석되었으면 결과 복사
+                News analyzed = analyzedStories.get(news.getStoryId());
+                if (analyzed != null) {
+                    news.setSentimentScore(analyzed.getSentimentScore());
+                    news.setSentimentLabel(analyzed.getSentimentLabel());
+                    newsRepository.save(news);
                     results.add(createSentimentResponse(news));
                     continue;
                 }
 
-                // 감성 분석 실행
-                var sentimentResult = sentimentAnalysisService.analyzeSentiment(news.getSummary());
+                // 감성 분석 결과 반영
+                var sentimentResult = sentimentResults.get(news.getStoryId());
+                if (sentimentResult == null) {
+                    continue;
+                }
                 
                 // 뉴스 엔티티 업데이트
                 news.setSentimentScore(sentimentResult.getScore());
                 news.setSentimentLabel(mapSentimentLabel(sentimentResult.getLabel()));
                 newsRepository.save(news);
+                analyzedStories.put(news.getStoryId(), news);
 
                 // 분석 결과 저장
                 saveNewsAnalysis(news, user, "SENTIMENT", sentimentResult, 
@@ -95,6 +136,25 @@ public class AnalysisService {
         return results;
     }
 
+    /**
+     * 기사별 감성 분석 (대표 기사 id → 결과) - 외부 호출은 최대 external-api.ml.max-concurrent-requests 개씩 동시에 진행
+     */
+    private Map<Long, SentimentAnalysisService.SentimentResult> analyzeStories(Map<Long, News> stories) {
+        if (stories.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, SentimentAnalysisService.SentimentResult> results = Flux.fromIterable(stories.entrySet())
+                .flatMap(story -> sentimentAnalysisService.analyzeSentimentAsync(story.getValue().getSummary())
+                        .map(result -> Map.entry(story.getKey(), result))
+                        .onErrorResume(e -> {
+                            log.error("감성 분석 실패 - 뉴스 ID: {}, 오류: {}", story.getValue().getId(), e.getMessage());
+                            return Mono.empty();
+                        }), mlMaxConcurrentRequests)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+        return results != null ? results : Map.of();
+    }
+
     public Map<String, AnalysisDTO.IndicatorAnalysisResponse> analyzeIndicators(
             AnalysisDTO.IndicatorAnalysisRequest request, String userEmail) {
         log.info("경제 지표 분석 시작 - 사용자: {}, 지표: {}, 뉴스 수: {}", 
@@ -176,14 +236,7 @@ public class AnalysisService {
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getAvailableIndicators() {
-        String cacheKey = "available_indicators";
-        List<Map<String, Object>> cached = cacheService.get(cacheKey, List.class);
-        
-        if (cached != null) {
-            return cached;
-        }
-
-        List<Map<String, Object>> indicators = Arrays.asList(
+        return cacheService.getOrLoad("available_indicators", 3600, () -> Arrays.<Map<String, Object>>asList(
                 Map.of("id", "interest_rate", "name", "기준금리", "unit", "%"),
                 Map.of("id", "exchange_rate", "name", "환율(달러/원)", "unit", "원"),
                 Map.of("id", "kospi", "name", "KOSPI", "unit", "포인트"),
@@ -194,10 +247,7 @@ public class AnalysisService {
                 Map.of("id", "unemployment", "name", "실업률", "unit", "%"),
                 Map.of("id", "export", "name", "수출액", "unit", "억 달러"),
                 Map.of("id", "import", "name", "수입액", "unit", "억 달러")
-        );
-
-        cacheService.put(cacheKey, indicators, 3600);
-        return indicators;
+        ));
     }
 
     @Transactional(readOnly = true)
@@ -280,7 +330,7 @@ public class AnalysisService {
         
         // 권한 확인
         boolean hasUnauthorized = newsList.stream()
-                .anyMatch(news -> !news.getCollectedByUser().equals(user));
+                .anyMatch(news -> !user.equals(news.getCollectedByUser()));
         
         if (hasUnauthorized) {
             throw new BusinessException("접근 권한이 없는 뉴스가 포함되어 있습니다.");
@@ -289,6 +339,20 @@ public class AnalysisService {
         return newsList;
     }
 
+    // 요청 목록에 없는 대표 기사 조회 (대표 기사 id → 뉴스)
+    private Map<Long, News> findCanonicalNews(List<News> newsList) {
+        Set<Long> canonicalIds = newsList.stream()
+                .filter(News::isNearDuplicate)
+                .map(News::getCanonicalNewsId)
+                .collect(Collectors.toSet());
+        newsList.forEach(news -> canonicalIds.remove(news.getId()));
+        if (canonicalIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return newsRepository.findAllById(canonicalIds).stream()
+                .collect(Collectors.toMap(News::getId, news -> news));
+    }
+
     private void validateAnalysisLimits(User user, int newsCount) {
         if (user.getSubscriptionPlan() == User.SubscriptionPlan.FREE) {
             if (newsCount > 100) {
@@ -302,9 +366,11 @@ public class AnalysisService {
         
         List<String> keywords = KEYWORD_INDICATOR_MAPPING.getOrDefault(indicator, Arrays.asList(indicator));
         
-        // 관련 뉴스 필터링
+        // 관련 뉴스 필터링 (같은 기사의 언론사별 재배포는 한 번만 집계)
+        Set<Long> stories = new HashSet<>();
         List<News> relatedNews = newsList.stream()
                 .filter(news -> containsKeywords(news, keywords))
+                .filter(news -> stories.add(news.getStoryId()))
                 .collect(Collectors.toList());
         
         if (relatedNews.isEmpty()) {
@@ -1,56 +1,172 @@
 // service/CacheService.java
 package com.financescope.financescope.service;
 
+import com.financescope.financescope.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
+/**
+ * 메모리 캐시 (Caffeine W-TinyLFU)
+ *
+ * 전체 크기는 항목별 추정 바이트 합으로 제한하고, 넘치면 사용 빈도가 낮은 항목부터 내보냅니다.
+ * 만료 시간은 항목마다 따로 지정하며, 지정하지 않은 항목은 용량에 밀려날 때까지 유지됩니다.
+ *
+ * 만료 항목은 계층형 타이밍 휠에 만료 시각별로 들어가 있어, cacheScheduler 가 다음 만료 시각에 맞춰
+ * 정리를 깨우고 주기적 정리(app.cache.cleanup-interval)도 만료된 칸만 꺼내 제거합니다 (전체 순회 없음).
+ */
 @Service
 @Slf4j
 public class CacheService {
-    
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
-    private final Map<String, Long> expiryMap = new ConcurrentHashMap<>();
-    
-    public CacheService() {
-        log.info("Memory-based CacheService initialized");
+
+    // 크기 추정 시 따라 들어갈 컬렉션 깊이와, 알 수 없는 객체의 기본 크기
+    private static final int MAX_ESTIMATE_DEPTH = 4;
+    private static final int UNKNOWN_OBJECT_BYTES = 64;
+
+    private final Cache<String, CacheEntry> cache;
+    private final long maxWeightBytes;
+    private final List<BiConsumer<String, Object>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    // getOrLoad 의 키별 진행 중인 계산 (동시 미스가 같은 결과를 기다림)
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refresher = Executors.newVirtualThreadPerTaskExecutor();
+    private final long negativeExpirySeconds;
+
+    private final CacheConfig cacheConfig;
+    private final ScheduledExecutorService cacheScheduler;
+    // 만료로 제거된 항목 수 (정리 작업 안에서 동기로 집계되어 주기적 정리 전후 차이로 회수 건수를 구함)
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final Counter reclaimedCounter;
+    private final Timer sweepTimer;
+    private final DistributionSummary sweepReclaimed;
+
+    public CacheService(@Value("${app.cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                        @Value("${app.cache.negative-expiry:10}") long negativeExpirySeconds,
+                        CacheConfig cacheConfig,
+                        @Qualifier("cacheScheduler") ScheduledExecutorService cacheScheduler,
+                        MeterRegistry meterRegistry) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.negativeExpirySeconds = negativeExpirySeconds;
+        this.cacheConfig = cacheConfig;
+        this.cacheScheduler = cacheScheduler;
+        this.reclaimedCounter = Counter.builder("cache.expired.reclaimed")
+                .description("만료되어 제거된 캐시 항목 수")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("cache.sweep.duration")
+                .description("주기적 캐시 만료 정리 소요 시간")
+                .register(meterRegistry);
+        this.sweepReclaimed = DistributionSummary.builder("cache.sweep.reclaimed")
+                .description("주기적 정리 한 번에 제거된 만료 항목 수")
+                .register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, CacheEntry entry) -> entry.weight())
+                .expireAfter(new EntryExpiry())
+                .scheduler(Scheduler.forScheduledExecutorService(cacheScheduler))
+                .evictionListener(this::onExpired)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+        log.info("Memory-based CacheService initialized (maxWeightBytes={})", maxWeightBytes);
+    }
+
+    @PostConstruct
+    public void init() {
+        long interval = Math.max(1, cacheConfig.getCleanupInterval());
+        cacheScheduler.scheduleWithFixedDelay(this::sweepExpired, interval, interval, TimeUnit.SECONDS);
+        log.info("캐시 만료 정리 예약: {}초 간격", interval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 캐시 항목 - 만료 시간(ns, 없으면 Long.MAX_VALUE)과 추정 크기를 함께 보관
+     */
+    private record CacheEntry(Object value, long ttlNanos, int weight) {
     }
-    
+
+    /**
+     * getOrLoad 의 실패 결과 (짧게 캐시해 같은 예외를 다시 던짐, get / hasKey 에서는 없는 값으로 취급)
+     */
+    private record LoadFailure(RuntimeException error) {
+    }
+
+    private static class EntryExpiry implements Expiry<String, CacheEntry> {
+        @Override
+        public long expireAfterCreate(String key, CacheEntry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CacheEntry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CacheEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
     /**
      * 캐시에 값 저장 (만료 시간 없음)
      */
     public void put(String key, Object value) {
-        cache.put(key, value);
+        cache.put(key, entry(key, value, Long.MAX_VALUE));
         log.debug("Cache put: key={}", key);
     }
-    
+
     /**
      * 캐시에 값 저장 (만료 시간 포함) - 오버로드된 메서드
      */
     public void put(String key, Object value, long expiryInSeconds) {
-    cache.put(key, value);
-    long expiryTime = System.currentTimeMillis() + (expiryInSeconds * 1000);
-    expiryMap.put(key, expiryTime);
-    log.debug("Cache put with expiry: key={}, expiryInSeconds={}", key, expiryInSeconds);
-}
-    
+        cache.put(key, entry(key, value, TimeUnit.SECONDS.toNanos(Math.max(0, expiryInSeconds))));
+        log.debug("Cache put with expiry: key={}, expiryInSeconds={}", key, expiryInSeconds);
+    }
+
     /**
      * 캐시에서 값 조회
      */
     public Object get(String key) {
-        // 만료 확인
-        if (isExpired(key)) {
-            delete(key);
-            return null;
-        }
-        
-        Object value = cache.get(key);
+        CacheEntry entry = cache.getIfPresent(key);
+        Object value = entry != null && !(entry.value() instanceof LoadFailure) ? entry.value() : null;
         log.debug("Cache get: key={}, found={}", key, value != null);
         return value;
     }
-    
+
     /**
      * 제네릭 타입으로 캐시 값 조회
      */
@@ -62,68 +178,270 @@ public class CacheService {
         }
         return null;
     }
-    
+
     /**
      * 캐시에서 값 삭제
      */
     public void delete(String key) {
-        cache.remove(key);
-        expiryMap.remove(key);
+        cache.invalidate(key);
         log.debug("Cache delete: key={}", key);
     }
-    
+
     /**
      * 모든 캐시 삭제
      */
     public void clear() {
-        cache.clear();
-        expiryMap.clear();
+        cache.invalidateAll();
         log.info("Cache cleared");
     }
-    
+
     /**
-     * 키 존재 여부 확인
+     * 키 존재 여부 확인 (적중 / 미스 통계와 사용 빈도에는 반영하지 않음)
      */
     public boolean hasKey(String key) {
-        if (isExpired(key)) {
-            delete(key);
-            return false;
+        CacheEntry entry = cache.policy().getIfPresentQuietly(key);
+        return entry != null && !(entry.value() instanceof LoadFailure);
+    }
+
+    /**
+     * 캐시 값을 조회하고, 없으면 loader 로 계산해 저장한 뒤 반환합니다.
+     * 같은 키의 동시 미스는 계산 하나의 결과를 함께 기다리고, loader 가 던진 예외는
+     * app.cache.negative-expiry 동안 캐시되어 그 사이 호출에는 같은 예외를 다시 던집니다.
+     * loader 가 null 을 반환하면 저장하지 않습니다.
+     */
+    public <T> T getOrLoad(String key, long expiryInSeconds, Supplier<T> loader) {
+        return getOrLoad(key, expiryInSeconds, 0, loader);
+    }
+
+    /**
+     * getOrLoad 와 같고, 남은 만료 시간이 refreshAheadSeconds 이하이면 기존 값을 바로 반환하면서
+     * 백그라운드에서 다시 계산해 만료 시점에 미스가 몰리지 않게 합니다 (갱신 실패 시 기존 값을 만료까지 유지).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, long expiryInSeconds, long refreshAheadSeconds, Supplier<T> loader) {
+        CacheEntry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return (T) load(key, expiryInSeconds, loader);
+        }
+        if (entry.value() instanceof LoadFailure failure) {
+            throw failure.error();
+        }
+        if (refreshAheadSeconds > 0 && expiresWithin(key, refreshAheadSeconds)) {
+            refreshAsync(key, expiryInSeconds, loader);
         }
-        return cache.containsKey(key);
+        return (T) entry.value();
     }
-    
+
     /**
      * 만료 시간과 함께 캐시에 값 저장 (기존 메서드 유지)
      */
     public void putWithExpiry(String key, Object value, long expiryInSeconds) {
         put(key, value, expiryInSeconds); // 오버로드된 put 메서드 사용
     }
-    
+
+    /**
+     * 용량 초과나 만료로 항목이 빠질 때 호출할 리스너 등록 (키, 값)
+     * 캐시 작업 스레드가 아닌 별도 스레드에서 호출됩니다.
+     */
+    public void addEvictionListener(BiConsumer<String, Object> listener) {
+        evictionListeners.add(listener);
+    }
+
     /**
      * 캐시 크기 반환
      */
     public int size() {
-        return cache.size();
+        return (int) Math.min(Integer.MAX_VALUE, cache.estimatedSize());
     }
-    
+
     /**
      * 캐시 통계 정보 반환
      */
     public Map<String, Object> getStats() {
-        Map<String, Object> stats = new ConcurrentHashMap<>();
-        stats.put("size", cache.size());
-        stats.put("expiryEntries", expiryMap.size());
-        return stats;
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new ConcurrentHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("estimatedBytes", cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        result.put("maxWeightBytes", maxWeightBytes);
+        return result;
+    }
+
+    private Object load(String key, long expiryInSeconds, Supplier<?> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            // 먼저 시작한 계산이 조회와 등록 사이에 끝나 저장된 경우
+            CacheEntry entry = cache.policy().getIfPresentQuietly(key);
+            if (entry != null && entry.value() instanceof LoadFailure failure) {
+                throw failure.error();
+            }
+            Object value = entry != null ? entry.value() : compute(key, expiryInSeconds, loader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object compute(String key, long expiryInSeconds, Supplier<?> loader) {
+        try {
+            Object value = loader.get();
+            if (value != null) {
+                put(key, value, expiryInSeconds);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("캐시 로드 실패, {}초 동안 실패를 캐시: key={}, error={}", negativeExpirySeconds, key, e.getMessage());
+            cache.put(key, entry(key, new LoadFailure(e), TimeUnit.SECONDS.toNanos(negativeExpirySeconds)));
+            throw e;
+        }
+    }
+
+    private void refreshAsync(String key, long expiryInSeconds, Supplier<?> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return; // 이미 계산 중
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    Object value = loader.get();
+                    if (value != null) {
+                        put(key, value, expiryInSeconds);
+                    }
+                    flight.complete(value);
+                } catch (RuntimeException | Error e) {
+                    log.warn("캐시 미리 갱신 실패: key={}, error={}", key, e.getMessage());
+                    flight.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 갱신하지 않고 만료 후 다시 계산
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+    }
+
+    private boolean expiresWithin(String key, long seconds) {
+        return cache.policy().expireVariably()
+                .flatMap(expiry -> expiry.getExpiresAfter(key))
+                .map(remaining -> remaining.compareTo(Duration.ofSeconds(seconds)) <= 0)
+                .orElse(false);
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
-    
+
     /**
-     * 키가 만료되었는지 확인
+     * 만료된 항목 정리 - 타이밍 휠에서 지난 칸만 처리하므로 비용은 만료 항목 수에 비례
      */
-    private boolean isExpired(String key) {
-        Long expiryTime = expiryMap.get(key);
-        if (expiryTime == null) {
-            return false;
+    void sweepExpired() {
+        try {
+            long before = expiredCount.get();
+            long started = System.nanoTime();
+            cache.cleanUp();
+            sweepTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            long reclaimed = expiredCount.get() - before;
+            sweepReclaimed.record(reclaimed);
+            if (reclaimed > 0) {
+                log.debug("캐시 만료 정리: {}건 제거, 남은 항목 {}개", reclaimed, cache.estimatedSize());
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 이후 주기 실행이 취소되므로 여기서 끊음
+            log.warn("캐시 만료 정리 실패", e);
+        }
+    }
+
+    private CacheEntry entry(String key, Object value, long ttlNanos) {
+        if (value == null) {
+            throw new IllegalArgumentException("캐시 값은 null 일 수 없습니다: " + key);
+        }
+        long weight = estimateBytes(key) + estimateBytes(value, 0);
+        return new CacheEntry(value, ttlNanos, (int) Math.min(Integer.MAX_VALUE, weight));
+    }
+
+    // 정리 작업 스레드에서 동기로 호출됨
+    private void onExpired(String key, CacheEntry entry, RemovalCause cause) {
+        if (cause == RemovalCause.EXPIRED) {
+            expiredCount.incrementAndGet();
+            reclaimedCounter.increment();
+        }
+    }
+
+    private void onRemoval(String key, CacheEntry entry, RemovalCause cause) {
+        if (!cause.wasEvicted() || key == null || entry == null) {
+            return;
+        }
+        log.debug("Cache evicted: key={}, cause={}", key, cause);
+        for (BiConsumer<String, Object> listener : evictionListeners) {
+            try {
+                listener.accept(key, entry.value());
+            } catch (RuntimeException e) {
+                log.warn("캐시 제거 리스너 오류: key={}", key, e);
+            }
         }
-        return System.currentTimeMillis() > expiryTime;
     }
-}
\ No newline at end of file
+
+    // 힙 사용량 대략 추정 (객체 헤더 16, 참조 8바이트 기준) - 정확한 값보다 항목 간 비교가 목적
+    private static long estimateBytes(String value) {
+        return 40L + value.length() * 2L;
+    }
+
+    private static long estimateBytes(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return estimateBytes(string);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+            return 16;
+        }
+        if (depth >= MAX_ESTIMATE_DEPTH) {
+            return UNKNOWN_OBJECT_BYTES;
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 32L + collection.size() * 8L;
+            for (Object element : collection) {
+                bytes += estimateBytes(element, depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 48L + map.size() * 40L;
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                bytes += estimateBytes(e.getKey(), depth + 1) + estimateBytes(e.getValue(), depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof byte[] bytes) {
+            return 16L + bytes.length;
+        }
+        return UNKNOWN_OBJECT_BYTES;
+    }
+}
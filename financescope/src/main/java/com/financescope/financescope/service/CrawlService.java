@@ -1,119 +1,174 @@
 package com.financescope.financescope.service;
 
 import com.financescope.financescope.dto.CrawlRequest;
+import com.financescope.financescope.dto.CrawlResultsResponse;
 import com.financescope.financescope.dto.CrawlStatusResponse;
+import com.financescope.financescope.dto.news.NewsDTO;
 import com.financescope.financescope.entity.News;
-import java.time.LocalDateTime;
+import com.financescope.financescope.entity.User;
+import com.financescope.financescope.exception.BusinessException;
+import com.financescope.financescope.repository.NewsRepository;
+import com.financescope.financescope.repository.UserRepository;
+import com.financescope.financescope.service.external.NewsCrawlerService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * /api/crawl 요청을 NewsCrawlerService 작업으로 넘기는 어댑터
+ *
+ * 크롤링 실행 / 대기열 / 상태 관리는 NewsCrawlerService 가 맡고, 여기서는 요청과 응답 형식만 변환합니다.
+ * 로그인하지 않은 요청은 소유자 없는 작업으로 실행되며 무료 플랜 제한을 받습니다.
+ */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class CrawlService {
 
-    private final ConcurrentHashMap<String, CrawlStatusResponse> jobStatuses = new ConcurrentHashMap<>();
+    private static final int DEFAULT_MAX_RESULTS = 100;
+    // 결과 조회 한 번에 돌려줄 최대 기사 수
+    private static final int MAX_RESULTS_PAGE_SIZE = 500;
+
+    private final NewsCrawlerService newsCrawlerService;
+    private final UserRepository userRepository;
+    private final NewsRepository newsRepository;
+
+    /**
+     * 작업을 등록하고 jobId 를 반환합니다. userEmail 이 null 이면 익명 작업입니다.
+     */
+    public String startCrawling(CrawlRequest request, String userEmail) {
+        User user = findUser(userEmail);
+        NewsDTO.CrawlRequest crawlRequest = toCrawlRequest(request);
 
-    @Async("taskExecutor")
-    public void startCrawling(String jobId, CrawlRequest request) {
-        log.info("Job {} started with request: {}", jobId, request);
+        User.SubscriptionPlan plan = user != null ? user.getSubscriptionPlan() : User.SubscriptionPlan.FREE;
+        if (plan == User.SubscriptionPlan.FREE && crawlRequest.getMaxResults() > DEFAULT_MAX_RESULTS) {
+            throw new BusinessException("무료 사용자는 최대 100개까지 수집할 수 있습니다.");
+        }
+
+        String jobId = UUID.randomUUID().toString();
         try {
-            // 초기 상태 설정
-            CrawlStatusResponse initialStatus = CrawlStatusResponse.builder()
-                    .status("INITIALIZING")
-                    .progress(0)
-                    .results(new ArrayList<>()).build();
-            jobStatuses.put(jobId, initialStatus);
-
-            // --- 실제 크롤링 로직 시작 ---
-            // 이 부분에 WebClient를 사용한 실제 크롤링 코드를 구현해야 합니다.
-            // 여기서는 시뮬레이션을 위해 잠시 대기하고 더미 데이터를 생성합니다.
-            List<News> collectedNews = new ArrayList<>();
-            int totalSteps = 10;
-            for (int i = 1; i <= totalSteps; i++) {
-                // 작업이 취소되었는지 확인
-                if (jobStatuses.get(jobId).getStatus().equals("CANCELLED")) {
-                    log.info("Job {} was cancelled.", jobId);
-                    break;
-                }
-
-                TimeUnit.SECONDS.sleep(2); // 2초 대기 시뮬레이션
-                int progress = i * 10;
-
-                // 더미 뉴스 데이터 생성
-                News dummyNews = new News();
-                dummyNews.setTitle(request.getKeywords().get(0) + " 관련 뉴스 " + i);
-                dummyNews.setSource(request.getSource());
-                                dummyNews.setOriginalUrl("http://example.com/news/" + UUID.randomUUID());
-                dummyNews.setKeyword(request.getKeywords().get(0));
-                dummyNews.setPublishedDate(LocalDateTime.now().minusDays(i));
-                dummyNews.setCrawledDate(LocalDateTime.now());
-                collectedNews.add(dummyNews);
-
-                CrawlStatusResponse currentStatus = CrawlStatusResponse.builder()
-                        .status("RUNNING")
-                        .progress(progress)
-                        .results(new ArrayList<>(collectedNews))
-                        .build();
-                jobStatuses.put(jobId, currentStatus);
-                log.info("Job {} progress: {}%", jobId, progress);
-            }
-            // --- 실제 크롤링 로직 종료 ---
-
-            // 최종 상태 업데이트
-            if (!jobStatuses.get(jobId).getStatus().equals("CANCELLED")) {
-                CrawlStatusResponse finalStatus = CrawlStatusResponse.builder()
-                        .status("COMPLETED")
-                        .progress(100)
-                        .results(collectedNews)
-                        .build();
-                jobStatuses.put(jobId, finalStatus);
-                log.info("Job {} completed.", jobId);
-            }
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            CrawlStatusResponse errorStatus = CrawlStatusResponse.builder()
-                    .status("FAILED")
-                    .error("크롤링 작업이 중단되었습니다: " + e.getMessage())
-                    .progress(jobStatuses.get(jobId).getProgress())
-                    .results(jobStatuses.get(jobId).getResults())
-                    .build();
-            jobStatuses.put(jobId, errorStatus);
-            log.error("Job {} was interrupted.", jobId, e);
+            newsCrawlerService.startCrawling(jobId, crawlRequest, user);
         } catch (Exception e) {
-            CrawlStatusResponse errorStatus = CrawlStatusResponse.builder()
-                    .status("FAILED")
-                    .error("크롤링 중 오류 발생: " + e.getMessage())
-                    .progress(jobStatuses.get(jobId) != null ? jobStatuses.get(jobId).getProgress() : 0)
-                    .results(jobStatuses.get(jobId) != null ? jobStatuses.get(jobId).getResults() : new ArrayList<>())                    
-                    .build();
-            jobStatuses.put(jobId, errorStatus);
-            log.error("Error during crawling for job {}.", jobId, e);
+            log.error("크롤링 시작 실패: {}", e.getMessage());
+            throw new BusinessException("크롤링 시작에 실패했습니다: " + e.getMessage());
+        }
+        return jobId;
+    }
+
+    /**
+     * 작업 상태를 반환합니다. 없거나 다른 사용자의 작업이면 null.
+     * 수집 결과는 건수만 담고, 기사는 getResults 로 나눠 받습니다.
+     */
+    public CrawlStatusResponse getStatus(String jobId, String userEmail) {
+        NewsDTO.CrawlStatusResponse status;
+        try {
+            status = newsCrawlerService.getCrawlingStatus(jobId, findUser(userEmail));
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return CrawlStatusResponse.builder()
+                .status(status.getStatus())
+                .progress(status.getProgress())
+                .newsCount(status.getNewsCount() != null ? status.getNewsCount() : 0)
+                .error(status.getError())
+                .build();
+    }
+
+    /**
+     * 작업이 저장한 기사 중 커서(마지막으로 받은 결과 순번) 이후만 순번 순으로 반환합니다. 없거나 다른 사용자의 작업이면 null.
+     * 결과는 news 테이블에 작업 id 와 함께 추가만 되므로, 매번 전체 목록을 만들지 않고 인덱스로 새 행만 읽습니다.
+     * 결과 순번은 커밋 순서대로 매겨지므로(NewsBatchWriter.assignResultSeq) 여러 키워드 / 인스턴스가 동시에 저장해도
+     * 커서 뒤에 늦게 커밋된 행이 끼어들지 않습니다.
+     */
+    public CrawlResultsResponse getResults(String jobId, long after, int limit, String userEmail) {
+        // 상태를 먼저 읽어야 completed 일 때 그 전에 저장된 결과가 모두 조회됨
+        NewsDTO.CrawlStatusResponse status;
+        try {
+            status = newsCrawlerService.getCrawlingStatus(jobId, findUser(userEmail));
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_RESULTS_PAGE_SIZE));
+        List<News> page = newsRepository.findByCrawlJobIdAfterResultSeq(jobId, Math.max(0, after), PageRequest.of(0, pageSize));
+        long cursor = page.isEmpty() ? Math.max(0, after) : page.get(page.size() - 1).getResultSeq();
+
+        return CrawlResultsResponse.builder()
+                .jobId(jobId)
+                .items(page.stream().map(this::toNewsResponse).toList())
+                .cursor(cursor)
+                .hasMore(page.size() == pageSize)
+                .completed(Boolean.TRUE.equals(status.getCompleted()))
+                .build();
+    }
+
+    public void cancelCrawling(String jobId, String userEmail) {
+        try {
+            newsCrawlerService.cancelCrawling(jobId, findUser(userEmail));
+        } catch (RuntimeException e) {
+            // 없는 작업 / 이미 종료된 작업 취소는 무시
+            log.debug("크롤링 작업 취소 무시 - JobID: {}, 사유: {}", jobId, e.getMessage());
         }
     }
 
-    public CrawlStatusResponse getStatus(String jobId) {
-        return jobStatuses.get(jobId);
+    // 수집 직후의 기사라 분석 결과(감성, 지표, 키워드)는 아직 없음
+    private NewsDTO.NewsResponse toNewsResponse(News news) {
+        return NewsDTO.NewsResponse.builder()
+                .id(news.getId())
+                .title(news.getTitle())
+                .summary(news.getSummary())
+                .originalUrl(news.getOriginalUrl())
+                .source(news.getSource())
+                .keyword(news.getKeyword())
+                .category(news.getCategory())
+                .publishedDate(news.getPublishedDate())
+                .canonicalNewsId(news.getCanonicalNewsId())
+                .build();
+    }
+
+    private User findUser(String userEmail) {
+        if (userEmail == null) {
+            return null;
+        }
+        return userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다."));
     }
 
-    public void cancelCrawling(String jobId) {
-        CrawlStatusResponse currentStatus = jobStatuses.get(jobId);
-        if (currentStatus != null && !currentStatus.getStatus().equals("COMPLETED")) {
-            CrawlStatusResponse cancelledStatus = CrawlStatusResponse.builder()
-                    .status("CANCELLED")
-                    .progress(currentStatus.getProgress())
-                    .results(currentStatus.getResults())
-                    .error("사용자에 의해 취소됨")
-                    .build();
-            jobStatuses.put(jobId, cancelledStatus);
-            log.info("Job {} cancellation requested.", jobId);
+    private NewsDTO.CrawlRequest toCrawlRequest(CrawlRequest request) {
+        if (request.getKeywords() == null || request.getKeywords().isEmpty()) {
+            throw new BusinessException("키워드는 최소 1개 이상 필요합니다");
+        }
+        if (request.getSource() == null || request.getSource().isBlank()) {
+            throw new BusinessException("뉴스 소스는 필수입니다");
+        }
+
+        return NewsDTO.CrawlRequest.builder()
+                .keywords(request.getKeywords())
+                .startDate(parseDate(request.getStartDate()))
+                .endDate(parseDate(request.getEndDate()))
+                .source(request.getSource())
+                .sortBy(request.getSortBy() != null ? request.getSortBy() : "relevance")
+                .maxResults(request.getMaxResults() > 0 ? request.getMaxResults() : DEFAULT_MAX_RESULTS)
+                .categories(request.getCategories())
+                .build();
+    }
+
+    // yyyy-MM-dd 또는 yyyy-MM-ddTHH:mm:ss
+    private LocalDateTime parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return value.length() <= 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("날짜 형식이 올바르지 않습니다: " + value);
         }
     }
 }
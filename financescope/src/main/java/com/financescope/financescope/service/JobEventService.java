@@ -0,0 +1,335 @@
+package com.financescope.financescope.service;
+
+import com.financescope.financescope.dto.job.JobEventDTO;
+import com.financescope.financescope.entity.User;
+import com.financescope.financescope.exception.BusinessException;
+import com.financescope.financescope.repository.UserRepository;
+import com.financescope.financescope.service.external.CrawlTaskQueue;
+import com.financescope.financescope.util.JobRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 작업 진행 이벤트 버스 (SSE)
+ *
+ * 크롤링, 예측, 리포트 작업이 진행률 / 단계 변경 / 종료를 발행하면 구독 중인 클라이언트에게 밀어 줍니다.
+ * 작업마다 마지막 이벤트를 보관해 늦게 구독한 클라이언트도 현재 상태를 바로 받고,
+ * 종료 이벤트는 한 번만 보낸 뒤 스트림을 닫습니다.
+ *
+ * 전송은 작업별 큐를 가상 스레드가 순서대로 비우는 방식이라, 발행하는 쪽(이벤트 루프 포함)은
+ * 느린 클라이언트 때문에 막히지 않습니다.
+ *
+ * 분산 크롤링에서는 키워드가 다른 인스턴스에서 실행되어 그 진행 이벤트가 이 인스턴스에 오지 않으므로,
+ * 크롤링 채널은 구독자가 있는 동안 DB 작업 상태(CrawlTaskQueue 스냅샷)를 주기적으로 읽어 발행합니다.
+ * 다른 인스턴스에서 등록된 작업도 구독 시 DB 에서 찾아 채널을 만듭니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobEventService {
+
+    public static final String TYPE_CRAWL = "crawl";
+    public static final String TYPE_PREDICTION = "prediction";
+    public static final String TYPE_REPORT = "report";
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("COMPLETED", "FAILED", "CANCELLED");
+
+    private final UserRepository userRepository;
+    private final CrawlTaskQueue crawlTaskQueue;
+
+    @Value("${app.jobs.events.max-entries:5000}")
+    private int maxChannels;
+
+    @Value("${app.jobs.events.ttl:600000}")
+    private long finishedChannelTtl;
+
+    @Value("${app.jobs.events.emitter-timeout:1800000}")
+    private long emitterTimeout;
+
+    private JobRegistry<JobChannel> channels;
+    private ExecutorService dispatcher;
+    // 진행 상태를 DB 스냅샷에서 읽어 오는 크롤링 채널 (분산 실행)
+    private final Set<String> snapshotChannels = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        channels = new JobRegistry<>(maxChannels, Duration.ofMillis(finishedChannelTtl));
+        dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 예측 작업의 이벤트 채널 id (크롤링 작업은 jobId 를 그대로 사용)
+     */
+    public static String predictionJobId(Long predictionId) {
+        return TYPE_PREDICTION + "-" + predictionId;
+    }
+
+    public static String reportJobId(String reportId) {
+        return TYPE_REPORT + "-" + reportId;
+    }
+
+    /**
+     * 작업 채널을 만듭니다. ownerId 가 null 이면 누구나 구독할 수 있습니다.
+     */
+    public void register(String jobId, String jobType, Long ownerId) {
+        try {
+            channels.register(jobId, new JobChannel(jobId, jobType, ownerId));
+            if (TYPE_CRAWL.equals(jobType) && crawlTaskQueue.isEnabled()) {
+                snapshotChannels.add(jobId);
+            }
+        } catch (IllegalStateException e) {
+            // 이벤트 채널이 부족해도 작업 자체는 진행 (폴링으로 확인 가능)
+            log.warn("작업 이벤트 채널 생성 실패 - JobID: {}, 사유: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 상태를 발행합니다. 직전 이벤트와 같으면 보내지 않고, 종료 뒤의 발행은 무시합니다.
+     */
+    public void publish(String jobId, String status, String stage, Integer progress, String message) {
+        JobChannel channel = channels.get(jobId);
+        if (channel == null) {
+            return;
+        }
+
+        JobEventDTO.JobEvent event = JobEventDTO.JobEvent.builder()
+                .jobId(jobId)
+                .jobType(channel.jobType)
+                .status(status)
+                .stage(stage)
+                .progress(progress)
+                .message(message)
+                .terminal(TERMINAL_STATUSES.contains(status))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        if (channel.accept(event)) {
+            dispatch(channel, new Dispatch(event, null));
+        }
+    }
+
+    /**
+     * 작업 이벤트 스트림을 구독합니다. 현재 상태를 먼저 보내고, 이미 끝난 작업이면 바로 닫습니다.
+     */
+    public SseEmitter subscribe(String jobId, String userEmail) {
+        JobChannel channel = Optional.ofNullable(channels.get(jobId)).orElseGet(() -> openSnapshotChannel(jobId));
+        if (channel == null) {
+            throw new BusinessException("작업을 찾을 수 없습니다: " + jobId);
+        }
+
+        if (channel.ownerId != null) {
+            if (userEmail == null) {
+                throw new BusinessException("인증이 필요합니다.");
+            }
+            User user = userRepository.findByEmail(userEmail)
+                    .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다."));
+            if (!Objects.equals(channel.ownerId, user.getId())) {
+                throw new BusinessException("접근 권한이 없습니다.");
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        emitter.onCompletion(() -> channel.emitters.remove(emitter));
+        emitter.onTimeout(() -> channel.emitters.remove(emitter));
+        emitter.onError(e -> channel.emitters.remove(emitter));
+
+        dispatch(channel, new Dispatch(null, emitter));
+        return emitter;
+    }
+
+    /**
+     * 종료 후 보관 시간이 지난 채널을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.events.sweep-interval:60000}")
+    public void evictExpiredChannels() {
+        channels.evictExpired();
+    }
+
+    /**
+     * 분산 크롤링 채널 중 구독자가 있는 채널의 상태를 DB 에서 읽어 발행합니다. (같은 상태면 보내지 않음)
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.events.snapshot-interval:2000}")
+    public void refreshSnapshotChannels() {
+        for (String jobId : snapshotChannels) {
+            JobChannel channel = channels.get(jobId);
+            if (channel == null || channel.isFinished()) {
+                snapshotChannels.remove(jobId);
+                continue;
+            }
+            if (channel.emitters.isEmpty()) {
+                continue;
+            }
+            try {
+                crawlTaskQueue.snapshot(jobId).ifPresent(this::publishSnapshot);
+            } catch (Exception e) {
+                log.warn("작업 상태 조회 실패 - JobID: {}, 오류: {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    // 다른 인스턴스에서 등록된 분산 크롤링 작업 - DB 에 있으면 채널을 만들고 현재 상태를 발행
+    private synchronized JobChannel openSnapshotChannel(String jobId) {
+        if (!crawlTaskQueue.isEnabled()) {
+            return null;
+        }
+        JobChannel existing = channels.get(jobId);
+        if (existing != null) {
+            return existing;
+        }
+        CrawlTaskQueue.JobSnapshot snapshot = crawlTaskQueue.snapshot(jobId).orElse(null);
+        if (snapshot == null) {
+            return null;
+        }
+        register(jobId, TYPE_CRAWL, snapshot.userId());
+        publishSnapshot(snapshot);
+        return channels.get(jobId);
+    }
+
+    // 단계 이름은 NewsCrawlerService 가 발행하는 값과 같음
+    private void publishSnapshot(CrawlTaskQueue.JobSnapshot snapshot) {
+        publish(snapshot.jobId(), snapshot.status(), snapshot.isFinished() ? "finished" : "crawling",
+                snapshot.progress(), snapshot.message());
+    }
+
+    private void dispatch(JobChannel channel, Dispatch item) {
+        channel.queue.add(item);
+        if (channel.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(channel));
+        }
+    }
+
+    // 작업별 큐를 한 스레드만 비우므로 한 채널의 이벤트는 발행 순서대로 전송됨
+    private void drain(JobChannel channel) {
+        do {
+            Dispatch item;
+            while ((item = channel.queue.poll()) != null) {
+                if (item.subscriber() != null) {
+                    attach(channel, item.subscriber());
+                } else {
+                    broadcast(channel, item.event());
+                }
+            }
+            channel.draining.set(false);
+        } while (!channel.queue.isEmpty() && channel.draining.compareAndSet(false, true));
+    }
+
+    private void attach(JobChannel channel, SseEmitter emitter) {
+        JobEventDTO.JobEvent last = channel.last;
+        if (last != null && !send(channel, emitter, last)) {
+            return;
+        }
+        // 스냅샷이 종료 이벤트가 아니면 이후의 종료 이벤트는 큐 뒤에서 broadcast 로 전달됨
+        if (last != null && Boolean.TRUE.equals(last.getTerminal())) {
+            emitter.complete();
+        } else {
+            channel.emitters.add(emitter);
+        }
+    }
+
+    private void broadcast(JobChannel channel, JobEventDTO.JobEvent event) {
+        List<SseEmitter> targets = new ArrayList<>(channel.emitters);
+        for (SseEmitter emitter : targets) {
+            send(channel, emitter, event);
+        }
+        if (Boolean.TRUE.equals(event.getTerminal())) {
+            channel.emitters.clear();
+            targets.forEach(SseEmitter::complete);
+        }
+    }
+
+    private boolean send(JobChannel channel, SseEmitter emitter, JobEventDTO.JobEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(channel.nextSequence()))
+                    .name(Boolean.TRUE.equals(event.getTerminal()) ? "complete" : "progress")
+                    .data(event));
+            return true;
+        } catch (Exception e) {
+            log.debug("작업 이벤트 전송 실패, 구독 해제 - JobID: {}, 오류: {}", channel.jobId, e.getMessage());
+            channel.emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private record Dispatch(JobEventDTO.JobEvent event, SseEmitter subscriber) {
+    }
+
+    // 작업 하나의 구독자 목록과 마지막 이벤트
+    private static class JobChannel implements JobRegistry.TrackedJob {
+        private final String jobId;
+        private final String jobType;
+        private final Long ownerId;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final Queue<Dispatch> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile JobEventDTO.JobEvent last;
+        private volatile LocalDateTime endTime;
+        private long sequence;
+
+        JobChannel(String jobId, String jobType, Long ownerId) {
+            this.jobId = jobId;
+            this.jobType = jobType;
+            this.ownerId = ownerId;
+        }
+
+        // 종료 이후 발행과 직전과 같은 이벤트는 버림
+        synchronized boolean accept(JobEventDTO.JobEvent event) {
+            if (endTime != null) {
+                return false;
+            }
+            if (last != null
+                    && Objects.equals(last.getStatus(), event.getStatus())
+                    && Objects.equals(last.getStage(), event.getStage())
+                    && Objects.equals(last.getProgress(), event.getProgress())
+                    && Objects.equals(last.getMessage(), event.getMessage())) {
+                return false;
+            }
+            last = event;
+            if (Boolean.TRUE.equals(event.getTerminal())) {
+                endTime = LocalDateTime.now();
+            }
+            return true;
+        }
+
+        synchronized long nextSequence() {
+            return ++sequence;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return endTime != null;
+        }
+
+        @Override
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+    }
+}
@@ -10,10 +10,13 @@ import com.financescope.financescope.service.external.NewsCrawlerService;
 import com.financescope.financescope.service.external.SummarizationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -32,6 +35,9 @@ public class NewsService {
     private final SummarizationService summarizationService;
     private final CacheService cacheService;
 
+    @Value("${external-api.ml.max-concurrent-requests:8}")
+    private int mlMaxConcurrentRequests;
+
     public NewsDTO.CrawlResponse startCrawling(NewsDTO.CrawlRequest request, String userEmail) {
         log.info("뉴스 크롤링 시작 - 사용자: {}, 키워드: {}", userEmail, request.getKeywords());
 
@@ -110,7 +116,7 @@ public class NewsService {
                 .orElseThrow(() -> new BusinessException("뉴스를 찾을 수 없습니다."));
         
         // 권한 확인
-        if (!news.getCollectedByUser().equals(user)) {
+        if (!user.equals(news.getCollectedByUser())) {
             throw new BusinessException("접근 권한이 없습니다.");
         }
         
@@ -135,14 +141,49 @@ public class NewsService {
         
         List<NewsDTO.SummaryResponse> summaries = new ArrayList<>();
         
+        // 같은 기사(근사 중복)는 대표 기사 기준으로 한 번만 요약
+        // 대표 기사의 요약은 같은 사용자의 기사에 같은 모델 / 길이로 만든 것만 재사용 (검색 스니펫 등은 다시 요약)
+        String summaryModel = summaryModel(request.getModel(), request.getMaxLength());
+        Map<Long, String> storySummaries = new HashMap<>();
+        Map<Long, News> ownCanonicals = new HashMap<>();
+        for (News canonical : findCanonicalNews(newsList)) {
+            if (!isCollectedBy(canonical, user)) {
+                continue;
+            }
+            if (canonical.hasSummary() && summaryModel.equals(canonical.getSummaryModel())) {
+                storySummaries.put(canonical.getId(), canonical.getSummary());
+            } else {
+                ownCanonicals.put(canonical.getId(), canonical);
+            }
+        }
+        
+        // 요약이 없는 기사만 모델 호출을 동시에 보내고, 결과를 모은 뒤 이 스레드에서 저장
+        Map<Long, News> pending = new LinkedHashMap<>();
+        for (News news : newsList) {
+            if (!storySummaries.containsKey(news.getStoryId())) {
+                pending.putIfAbsent(news.getStoryId(), news);
+            }
+        }
+        Map<Long, String> generated = summarizeStories(pending, request.getModel(), request.getMaxLength());
+        storySummaries.putAll(generated);
+        
+        // 새로 만든 요약은 (같은 사용자의) 대표 기사에도 저장해 다음 요청에서 재사용
+        generated.forEach((storyId, summary) -> {
+            News canonical = ownCanonicals.get(storyId);
+            if (canonical != null) {
+                applySummary(canonical, summary, summaryModel);
+            }
+        });
+        
         for (News news : newsList) {
             try {
-                String summary = summarizationService.summarize(news.getContent(), request.getModel(), request.getMaxLength());
+                String summary = storySummaries.get(news.getStoryId());
+                if (summary == null) {
+                    continue;
+                }
                 
                 // 뉴스 엔티티 업데이트
-                news.setSummary(summary);
-                news.setProcessingStatus(News.ProcessingStatus.SUMMARIZED);
-                newsRepository.save(news);
+                applySummary(news, summary, summaryModel);
                 
                 summaries.add(NewsDTO.SummaryResponse.builder()
                         .newsId(news.getId())
@@ -164,42 +205,55 @@ public class NewsService {
         return summaries;
     }
 
+    private void applySummary(News news, String summary, String summaryModel) {
+        news.setSummary(summary);
+        news.setSummaryModel(summaryModel);
+        news.setProcessingStatus(News.ProcessingStatus.SUMMARIZED);
+        newsRepository.save(news);
+    }
+
+    private static String summaryModel(String model, Integer maxLength) {
+        return model + "|" + maxLength;
+    }
+
+    // 지연 로딩 사용자 프록시를 초기화하지 않도록 id 로 비교
+    private static boolean isCollectedBy(News news, User user) {
+        return news.getCollectedByUser() != null && Objects.equals(news.getCollectedByUser().getId(), user.getId());
+    }
+
+    /**
+     * 기사별 요약 (대표 기사 id → 요약) - 모델 호출은 최대 external-api.ml.max-concurrent-requests 개씩 동시에 진행
+     */
+    private Map<Long, String> summarizeStories(Map<Long, News> stories, String model, Integer maxLength) {
+        if (stories.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> summaries = Flux.fromIterable(stories.entrySet())
+                .flatMap(story -> summarizationService.summarizeAsync(story.getValue().getContent(), model, maxLength)
+                        .map(summary -> Map.entry(story.getKey(), summary))
+                        .onErrorResume(e -> {
+                            log.error("뉴스 요약 실패 - ID: {}, 오류: {}", story.getValue().getId(), e.getMessage());
+                            return Mono.empty();
+                        }), mlMaxConcurrentRequests)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+        return summaries != null ? summaries : Map.of();
+    }
+
     @Transactional(readOnly = true)
     public List<String> getAvailableSources() {
-        // 캐시에서 조회
-        String cacheKey = "available_sources";
-        List<String> cachedSources = cacheService.get(cacheKey, List.class);
-        
-        if (cachedSources != null) {
-            return cachedSources;
-        }
-        
-        List<String> sources = Arrays.asList(
+        // 캐시에서 조회, 없으면 저장 (1시간)
+        return cacheService.getOrLoad("available_sources", 3600, () -> Arrays.asList(
                 "네이버", "다음", "구글", "한국경제", "매일경제", 
                 "파이낸셜뉴스", "이데일리", "머니투데이"
-        );
-        
-        // 캐시에 저장 (1시간)
-        cacheService.put(cacheKey, sources, 3600);
-        
-        return sources;
+        ));
     }
 
     @Transactional(readOnly = true)
     public List<String> getAvailableCategories() {
-        String cacheKey = "available_categories";
-        List<String> cachedCategories = cacheService.get(cacheKey, List.class);
-        
-        if (cachedCategories != null) {
-            return cachedCategories;
-        }
-        
-        List<String> categories = Arrays.asList(
+        return cacheService.getOrLoad("available_categories", 3600, () -> Arrays.asList(
                 "경제", "금융", "증권", "부동산", "산업", "국제경제", "정책"
-        );
-        
-        cacheService.put(cacheKey, categories, 3600);
-        return categories;
+        ));
     }
 
     public void deleteNews(Long id, String userEmail) {
@@ -208,7 +262,7 @@ public class NewsService {
         News news = newsRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("뉴스를 찾을 수 없습니다."));
         
-        if (!news.getCollectedByUser().equals(user)) {
+        if (!user.equals(news.getCollectedByUser())) {
             throw new BusinessException("삭제 권한이 없습니다.");
         }
         
@@ -306,6 +360,16 @@ public class NewsService {
         }
     }
 
+    // 요청 목록에 없는 대표 기사 조회
+    private List<News> findCanonicalNews(List<News> newsList) {
+        Set<Long> canonicalIds = newsList.stream()
+                .filter(News::isNearDuplicate)
+                .map(News::getCanonicalNewsId)
+                .collect(Collectors.toSet());
+        newsList.forEach(news -> canonicalIds.remove(news.getId()));
+        return canonicalIds.isEmpty() ? Collections.emptyList() : newsRepository.findAllById(canonicalIds);
+    }
+
     private void validateSummarizationLimits(User user, int newsCount) {
         if (user.getSubscriptionPlan() == User.SubscriptionPlan.FREE) {
             if (newsCount > 50) {
@@ -316,7 +380,7 @@ public class NewsService {
 
     private void validateNewsOwnership(List<News> newsList, User user) {
         boolean hasUnauthorized = newsList.stream()
-                .anyMatch(news -> !news.getCollectedByUser().equals(user));
+                .anyMatch(news -> !user.equals(news.getCollectedByUser()));
         
         if (hasUnauthorized) {
             throw new BusinessException("접근 권한이 없는 뉴스가 포함되어 있습니다.");
@@ -408,6 +472,7 @@ public class NewsService {
                 .publishedDate(news.getPublishedDate())
                 .sentimentScore(news.getSentimentScore())
                 .sentimentLabel(news.getSentimentLabel() != null ? news.getSentimentLabel().name() : null)
+                .canonicalNewsId(news.getCanonicalNewsId())
                 .relatedIndicators(news.getRelatedIndicators())
                 .extractedKeywords(parseJsonToList(news.getExtractedKeywords()))
                 .build();
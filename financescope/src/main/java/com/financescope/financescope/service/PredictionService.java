@@ -33,6 +33,7 @@ public class PredictionService {
     private final PredictionModelService predictionModelService;
     private final CacheService cacheService;
     private final ObjectMapper objectMapper;
+    private final JobEventService jobEventService;
 
     public PredictionDTO.PredictionResponse runPrediction(
             PredictionDTO.PredictionRequest request, String userEmail) {
@@ -48,6 +49,10 @@ public class PredictionService {
         Prediction prediction = createPredictionEntity(request, user);
         prediction = predictionRepository.save(prediction);
 
+        jobEventService.register(JobEventService.predictionJobId(prediction.getId()),
+                JobEventService.TYPE_PREDICTION, user.getId());
+        publishPredictionEvent(prediction.getId(), "PENDING", "queued", 0, "예측 대기 중");
+
         try {
             // 비동기로 예측 실행
             executePredictionAsync(prediction.getId(), request);
@@ -60,6 +65,7 @@ public class PredictionService {
             prediction.setStatus(Prediction.PredictionStatus.FAILED);
             prediction.setErrorMessage(e.getMessage());
             predictionRepository.save(prediction);
+            publishPredictionEvent(prediction.getId(), "FAILED", "finished", 0, "예측 실패: " + e.getMessage());
             
             throw new BusinessException("예측 실행에 실패했습니다: " + e.getMessage());
         }
@@ -79,12 +85,15 @@ public class PredictionService {
             predictionRepository.save(prediction);
 
             // 뉴스 데이터 수집
+            publishPredictionEvent(predictionId, "RUNNING", "collecting_news", 10, "뉴스 데이터 수집 중");
             List<News> newsList = collectNewsForPrediction(request, prediction.getUser());
             
             // 지표 분석 데이터 수집
+            publishPredictionEvent(predictionId, "RUNNING", "collecting_indicators", 30, "지표 분석 데이터 수집 중");
             List<IndicatorAnalysis> analysisData = collectAnalysisForPrediction(request, prediction.getUser());
             
             // 예측 모델 실행
+            publishPredictionEvent(predictionId, "RUNNING", "running_model", 50, "예측 모델 실행 중");
             var modelResult = predictionModelService.runPrediction(
                     request.getIndicator(),
                     Prediction.ModelType.valueOf(request.getModel().toUpperCase()),
@@ -95,10 +104,12 @@ public class PredictionService {
             );
 
             // 예측 결과 저장
+            publishPredictionEvent(predictionId, "RUNNING", "saving", 90, "예측 결과 저장 중");
             updatePredictionWithResults(prediction, modelResult, System.currentTimeMillis() - startTime);
             
             // 분석 히스토리 저장
             saveAnalysisHistory(prediction);
+            publishPredictionEvent(predictionId, "COMPLETED", "finished", 100, "예측 완료");
 
             log.info("예측 완료 - ID: {}, 처리시간: {}ms", predictionId, System.currentTimeMillis() - startTime);
 
@@ -109,9 +120,14 @@ public class PredictionService {
             prediction.setErrorMessage(e.getMessage());
             prediction.setProcessingTimeMs(System.currentTimeMillis() - startTime);
             predictionRepository.save(prediction);
+            publishPredictionEvent(predictionId, "FAILED", "finished", 0, "예측 실패: " + e.getMessage());
         }
     }
 
+    private void publishPredictionEvent(Long predictionId, String status, String stage, int progress, String message) {
+        jobEventService.publish(JobEventService.predictionJobId(predictionId), status, stage, progress, message);
+    }
+
     @Transactional(readOnly = true)
     public PredictionDTO.PredictionStatusResponse getPredictionStatus(Long id, String userEmail) {
         User user = findUserByEmail(userEmail);
@@ -179,23 +195,13 @@ public class PredictionService {
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getAvailableModels() {
-        String cacheKey = "available_prediction_models";
-        List<Map<String, Object>> cached = cacheService.get(cacheKey, List.class);
-        
-        if (cached != null) {
-            return cached;
-        }
-
-        List<Map<String, Object>> models = Arrays.asList(
+        return cacheService.getOrLoad("available_prediction_models", 3600, () -> Arrays.<Map<String, Object>>asList(
                 Map.of("id", "ARIMA", "name", "ARIMA", "description", "자기회귀통합이동평균 모델"),
                 Map.of("id", "PROPHET", "name", "Prophet", "description", "페이스북 개발 시계열 예측 모델"),
                 Map.of("id", "LSTM", "name", "LSTM", "description", "장단기 메모리 신경망 모델"),
                 Map.of("id", "XGBOOST", "name", "XGBoost", "description", "그래디언트 부스팅 기반 모델"),
                 Map.of("id", "ENSEMBLE", "name", "앙상블", "description", "여러 모델의 조합")
-        );
-
-        cacheService.put(cacheKey, models, 3600);
-        return models;
+        ));
     }
 
     public Object validatePrediction(Long id, Map<String, Object> actualData, String userEmail) {
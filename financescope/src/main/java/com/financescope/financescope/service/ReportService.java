@@ -7,6 +7,7 @@ import com.financescope.financescope.repository.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -19,6 +20,8 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,40 +35,63 @@ public class ReportService {
     private final IndicatorAnalysisRepository indicatorAnalysisRepository;
     private final PredictionRepository predictionRepository;
     private final ObjectMapper objectMapper;
+    private final JobEventService jobEventService;
+    @Qualifier("taskExecutor")
+    private final Executor taskExecutor;
 
     @Value("${app.file.report-dir:./reports}")
     private String reportDirectory;
 
+    /**
+     * 리포트 생성을 taskExecutor 에 맡기고 리포트 ID 를 바로 반환합니다.
+     * 진행 상황은 /api/jobs/report-{reportId}/events 로 구독하고, 완료 후 downloadUrl 로 받습니다.
+     */
     public ReportDTO.ReportGenerationResponse generateReport(
             ReportDTO.ReportGenerationRequest request, String userEmail) {
         log.info("리포트 생성 시작 - 사용자: {}, 타입: {}", userEmail, request.getReportType());
 
         User user = findUserByEmail(userEmail);
         
+        // 리포트 ID 생성 - 클라이언트가 구독할 수 있도록 생성 전에 이벤트 채널을 등록
+        String reportId = generateReportId(user.getId(), request.getReportType());
+        String eventJobId = JobEventService.reportJobId(reportId);
+        jobEventService.register(eventJobId, JobEventService.TYPE_REPORT, user.getId());
+        jobEventService.publish(eventJobId, "PENDING", "queued", 0, "리포트 생성 대기 중");
+        
+        try {
+            taskExecutor.execute(() -> buildReport(reportId, eventJobId, request, user));
+        } catch (RejectedExecutionException e) {
+            log.error("리포트 생성 실패: {}", e.getMessage());
+            jobEventService.publish(eventJobId, "FAILED", "finished", 0, "리포트 생성 실패: 작업이 너무 많습니다.");
+            throw new BusinessException("리포트 생성에 실패했습니다: 잠시 후 다시 시도해주세요.");
+        }
+        
+        return ReportDTO.ReportGenerationResponse.builder()
+                .success(true)
+                .message("리포트 생성을 시작했습니다.")
+                .reportId(reportId)
+                .downloadUrl("/api/reports/download/" + reportId)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    private void buildReport(String reportId, String eventJobId,
+                             ReportDTO.ReportGenerationRequest request, User user) {
         try {
-            // 리포트 ID 생성
-            String reportId = generateReportId(user.getId(), request.getReportType());
-            
             // 데이터 수집
+            jobEventService.publish(eventJobId, "RUNNING", "collecting_data", 10, "리포트 데이터 수집 중");
             Map<String, Object> reportData = collectReportData(request, user);
             
             // 리포트 파일 생성
-            String fileName = generateReportFile(reportId, request, reportData);
+            jobEventService.publish(eventJobId, "RUNNING", "rendering", 60, "리포트 파일 생성 중");
+            generateReportFile(reportId, request, reportData);
             
-            // 다운로드 URL 생성
-            String downloadUrl = "/api/reports/download/" + reportId;
+            jobEventService.publish(eventJobId, "COMPLETED", "finished", 100, "리포트가 생성되었습니다.");
+            log.info("리포트 생성 완료 - ID: {}", reportId);
             
-            return ReportDTO.ReportGenerationResponse.builder()
-                    .success(true)
-                    .message("리포트가 생성되었습니다.")
-                    .reportId(reportId)
-                    .downloadUrl(downloadUrl)
-                    .expiresAt(LocalDateTime.now().plusDays(7))
-                    .build();
-
         } catch (Exception e) {
-            log.error("리포트 생성 실패: {}", e.getMessage());
-            throw new BusinessException("리포트 생성에 실패했습니다: " + e.getMessage());
+            log.error("리포트 생성 실패 - ID: {}, 오류: {}", reportId, e.getMessage());
+            jobEventService.publish(eventJobId, "FAILED", "finished", 0, "리포트 생성 실패: " + e.getMessage());
         }
     }
 
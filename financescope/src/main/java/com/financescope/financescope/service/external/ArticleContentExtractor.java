@@ -0,0 +1,279 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.entity.News;
+import com.financescope.financescope.repository.NewsRepository;
+import com.financescope.financescope.util.ArticleTextExtractor;
+import com.financescope.financescope.util.TokenBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기사 본문 추출 단계
+ *
+ * RAW 상태 뉴스를 id 순으로 묶어 원문 페이지를 받아 본문을 추출하고 content 에 기록한 뒤
+ * CONTENT_EXTRACTED 로 넘깁니다. 크롤링 작업과 다른 커넥션 풀과 동시 실행 한도를 쓰고,
+ * 도메인별 토큰이 없는 기사는 기다리지 않고 다음 회차로 미뤄 한 언론사에 요청이 몰리지 않게 합니다.
+ *
+ * 본문을 찾지 못했거나 다시 받아도 결과가 같을 오류(4xx, HTML 이 아님, 본문 크기 초과)는 기존 요약문을 유지한 채
+ * 단계를 넘기고, 일시적인 오류(타임아웃, 429, 5xx)는 RAW 로 남겨 간격을 두 배씩 늘려 가며
+ * 다시 시도합니다. 최대 시도 횟수를 넘기면 영구 오류와 같이 요약문을 유지한 채 단계를 넘깁니다.
+ *
+ * 근사 중복 기사는 대표 기사 본문을 쓰므로 받지 않습니다. (연결될 때 RAW 에서 함께 넘어감, NewsBatchWriter)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleContentExtractor {
+
+    private final NewsRepository newsRepository;
+    @Qualifier("articleFetchWebClient")
+    private final WebClient articleFetchWebClient;
+
+    @Value("${app.content-extraction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.content-extraction.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.content-extraction.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${app.content-extraction.per-domain.burst:2}")
+    private int perDomainBurst;
+
+    @Value("${app.content-extraction.per-domain.permits-per-second:0.5}")
+    private double perDomainPermitsPerSecond;
+
+    @Value("${app.content-extraction.min-length:200}")
+    private int minLength;
+
+    @Value("${app.content-extraction.max-length:20000}")
+    private int maxLength;
+
+    // 일시적인 오류 재시도 한도 (넘기면 요약문 유지)
+    @Value("${app.content-extraction.max-attempts:5}")
+    private int maxAttempts;
+
+    // 첫 재시도까지 간격 (ms, 실패할 때마다 두 배)
+    @Value("${app.content-extraction.retry-backoff:60000}")
+    private long retryBackoffMillis;
+
+    // 도메인별 토큰 버킷 - 오래 쓰지 않은 도메인부터 밀어냄
+    private static final int MAX_TRACKED_DOMAINS = 2000;
+
+    private final Map<String, TokenBucket> domainBuckets = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+            return size() > MAX_TRACKED_DOMAINS;
+        }
+    };
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // 다음 회차에 이어서 읽을 위치 (끝까지 읽으면 처음부터 다시)
+    private final AtomicLong cursor = new AtomicLong();
+
+    private final AtomicLong extractedCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong abandonedCount = new AtomicLong();
+
+    /**
+     * 한 회차를 실행합니다. 이전 회차가 끝나지 않았으면 건너뜁니다.
+     * 스케줄러 스레드는 대상 조회만 하고 반환하며, 수집 / 파싱 / 기록은 리액티브 파이프라인에서 진행됩니다.
+     */
+    @Scheduled(initialDelayString = "${app.content-extraction.initial-delay:30000}",
+            fixedDelayString = "${app.content-extraction.interval:30000}")
+    public void extractPending() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<News> batch;
+        try {
+            batch = newsRepository.findByProcessingStatusAfterId(
+                    News.ProcessingStatus.RAW, cursor.get(), LocalDateTime.now(),
+                    PageRequest.of(0, Math.max(1, batchSize)));
+        } catch (Exception e) {
+            log.warn("본문 추출 대상 조회 실패: {}", e.getMessage());
+            running.set(false);
+            return;
+        }
+
+        if (batch.isEmpty()) {
+            cursor.set(0);
+            running.set(false);
+            return;
+        }
+        // 도메인 토큰이 없어 미뤄진 기사는 한 바퀴 돈 뒤 다시 대상이 됨
+        cursor.set(batch.size() < batchSize ? 0 : batch.get(batch.size() - 1).getId());
+
+        // 이번 회차에서 도메인 토큰을 얻은 기사만 처리
+        Set<String> deferredDomains = new HashSet<>();
+        List<News> ready = batch.stream()
+                .filter(news -> tryAcquireDomain(news.getOriginalUrl(), deferredDomains))
+                .toList();
+
+        AtomicInteger extracted = new AtomicInteger();
+        Flux.fromIterable(ready)
+                .flatMap(news -> extract(news).doOnNext(ok -> {
+                    if (ok) {
+                        extracted.incrementAndGet();
+                    }
+                }), Math.max(1, maxConcurrency))
+                .doFinally(signal -> {
+                    running.set(false);
+                    log.debug("본문 추출 회차 종료 - 대상: {}개, 처리: {}개, 추출: {}개, 도메인 대기: {}개",
+                            batch.size(), ready.size(), extracted.get(), batch.size() - ready.size());
+                })
+                .subscribe(ok -> { }, error -> log.warn("본문 추출 회차 실패: {}", error.getMessage()));
+    }
+
+    public Map<String, Long> getStats() {
+        return Map.of(
+                "extracted", extractedCount.get(),
+                "skipped", skippedCount.get(),
+                "retried", retryCount.get(),
+                "abandoned", abandonedCount.get());
+    }
+
+    /**
+     * 기사 하나의 원문을 받아 본문을 기록합니다. 본문을 찾았으면 true 를 내보냅니다.
+     */
+    private Mono<Boolean> extract(News news) {
+        String url = news.getOriginalUrl();
+
+        // 잘못된 URL 도 오류 신호로 받아 회차 전체가 끊기지 않게 함
+        return Mono.defer(() -> articleFetchWebClient.get()
+                        .uri(URI.create(url))
+                        .exchangeToMono(response -> {
+                            if (response.statusCode().isError()) {
+                                return response.createError();
+                            }
+                            MediaType contentType = response.headers().contentType().orElse(MediaType.TEXT_HTML);
+                            if (!contentType.isCompatibleWith(MediaType.TEXT_HTML)
+                                    && !contentType.isCompatibleWith(MediaType.APPLICATION_XHTML_XML)) {
+                                return response.releaseBody().then(Mono.<byte[]>empty());
+                            }
+                            return response.bodyToMono(byte[].class);
+                        }))
+                // 파싱은 이벤트 루프 밖에서 수행
+                .publishOn(Schedulers.parallel())
+                .map(body -> {
+                    String content = extractText(body, url);
+                    return content != null ? content : "";
+                })
+                .defaultIfEmpty("")
+                .publishOn(Schedulers.boundedElastic())
+                .map(content -> {
+                    boolean found = !content.isEmpty();
+                    // 본문을 찾지 못하면 기존 요약문을 유지한 채 다음 단계로 넘김
+                    newsRepository.updateExtractedContent(news.getId(),
+                            found ? content : news.getContent(), News.ProcessingStatus.CONTENT_EXTRACTED);
+                    (found ? extractedCount : skippedCount).incrementAndGet();
+                    return found;
+                })
+                .onErrorResume(e -> {
+                    int attempts = (news.getExtractionAttempts() != null ? news.getExtractionAttempts() : 0) + 1;
+                    if (isPermanent(e) || attempts >= maxAttempts) {
+                        log.debug("본문 추출 불가, 요약문 유지 - URL: {}, 시도: {}회, 사유: {}",
+                                url, attempts, e.getMessage());
+                        return Mono.fromCallable(() -> {
+                                    newsRepository.updateExtractedContent(news.getId(), news.getContent(),
+                                            News.ProcessingStatus.CONTENT_EXTRACTED);
+                                    (isPermanent(e) ? skippedCount : abandonedCount).incrementAndGet();
+                                    return false;
+                                })
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .onErrorReturn(false);
+                    }
+                    LocalDateTime nextAt = LocalDateTime.now().plus(Duration.ofMillis(retryDelayMillis(attempts)));
+                    log.debug("본문 수집 실패, {} 이후 재시도 - URL: {}, 시도: {}회, 오류: {}",
+                            nextAt, url, attempts, e.getMessage());
+                    return Mono.fromCallable(() -> {
+                                newsRepository.updateExtractionRetry(news.getId(), attempts, nextAt);
+                                retryCount.incrementAndGet();
+                                return false;
+                            })
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorReturn(false);
+                });
+    }
+
+    // 재시도 간격 - 실패할 때마다 두 배 (최대 2^10 배)
+    private long retryDelayMillis(int attempts) {
+        return Math.max(0, retryBackoffMillis) << Math.min(attempts - 1, 10);
+    }
+
+    private String extractText(byte[] body, String url) {
+        try {
+            // charset 은 Content-Type / meta 태그에서 감지 (EUC-KR 페이지 대응)
+            Document doc = Jsoup.parse(new ByteArrayInputStream(body), null, url);
+            return ArticleTextExtractor.extract(doc, minLength, maxLength);
+        } catch (Exception e) {
+            log.debug("본문 파싱 실패 - URL: {}, 오류: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    // 다시 요청해도 결과가 같은 오류 (429 제외한 4xx, 잘못된 URL, 최대 본문 크기 초과)
+    private boolean isPermanent(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status >= 400 && status < 500 && status != 429;
+        }
+        return e instanceof IllegalArgumentException
+                || e instanceof DataBufferLimitException || e.getCause() instanceof DataBufferLimitException;
+    }
+
+    // 같은 회차에서 토큰을 얻지 못한 도메인은 더 묻지 않음
+    private boolean tryAcquireDomain(String url, Set<String> deferredDomains) {
+        String domain;
+        try {
+            domain = URI.create(url).getHost();
+        } catch (Exception e) {
+            // 잘못된 URL 은 요청 단계에서 영구 실패로 처리
+            return true;
+        }
+        if (domain == null || deferredDomains.contains(domain)) {
+            return domain == null;
+        }
+
+        TokenBucket bucket;
+        synchronized (domainBuckets) {
+            bucket = domainBuckets.computeIfAbsent(domain,
+                    d -> new TokenBucket(Math.max(1, perDomainBurst), perDomainPermitsPerSecond));
+        }
+        if (bucket.tryAcquire()) {
+            return true;
+        }
+        deferredDomains.add(domain);
+        return false;
+    }
+}
@@ -0,0 +1,180 @@
+package com.financescope.financescope.service.external;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financescope.financescope.dto.news.NewsDTO;
+import com.financescope.financescope.entity.CrawlCheckpoint;
+import com.financescope.financescope.entity.CrawlJob;
+import com.financescope.financescope.repository.CrawlCheckpointRepository;
+import com.financescope.financescope.repository.CrawlJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 크롤링 작업 체크포인트 저장소
+ *
+ * 작업 요청과 키워드별 완료 여부를 DB 에 남겨, 서버가 재시작되면 중단된 작업을
+ * 마지막으로 완료된 키워드 다음부터 이어서 실행할 수 있게 합니다.
+ * 체크포인트 기록 실패는 로그만 남기고 크롤링 자체를 실패시키지 않습니다.
+ *
+ * 작업 행에는 실행 중인 인스턴스 id 와 하트비트를 남깁니다. 재개 대상은 이 인스턴스가 소유했거나
+ * 하트비트가 끊긴 작업뿐이라, 여러 인스턴스가 같은 DB 를 쓰더라도 다른 곳에서 살아 있는 작업을 다시 실행하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlCheckpointStore {
+
+    private static final String RUNNING = "RUNNING";
+
+    private final CrawlJobRepository crawlJobRepository;
+    private final CrawlCheckpointRepository crawlCheckpointRepository;
+    private final ObjectMapper objectMapper;
+    private final CrawlTaskQueue crawlTaskQueue;
+
+    @Value("${app.crawling.checkpoint.enabled:true}")
+    private boolean enabled;
+
+    // 하트비트가 이 시간(ms) 넘게 끊기면 소유 인스턴스가 중단된 것으로 보고 다른 인스턴스가 재개
+    @Value("${app.crawling.checkpoint.heartbeat-timeout:120000}")
+    private long heartbeatTimeoutMillis;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void jobStarted(String jobId, Long userId, NewsDTO.CrawlRequest request) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (crawlJobRepository.existsById(jobId)) {
+                return;
+            }
+            crawlJobRepository.save(CrawlJob.builder()
+                    .jobId(jobId)
+                    .userId(userId)
+                    .keywords(objectMapper.writeValueAsString(request.getKeywords()))
+                    .source(request.getSource())
+                    .sortBy(request.getSortBy())
+                    .maxResults(request.getMaxResults())
+                    .status(RUNNING)
+                    .ownerInstance(crawlTaskQueue.getInstanceId())
+                    .heartbeatAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("크롤링 작업 체크포인트 생성 실패 - JobID: {}, 오류: {}", jobId, e.getMessage());
+        }
+    }
+
+    public void keywordCompleted(String jobId, String keyword) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!crawlCheckpointRepository.existsByJobIdAndKeyword(jobId, keyword)) {
+                crawlCheckpointRepository.save(CrawlCheckpoint.builder()
+                        .jobId(jobId)
+                        .keyword(keyword)
+                        .build());
+            }
+            log.debug("키워드 체크포인트 기록 - JobID: {}, 키워드: {}", jobId, keyword);
+        } catch (Exception e) {
+            log.warn("키워드 체크포인트 기록 실패 - JobID: {}, 키워드: {}, 오류: {}", jobId, keyword, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 종료 상태를 기록하고, 더 이상 필요 없는 키워드 체크포인트를 정리합니다.
+     */
+    public void jobFinished(String jobId, String status, int newsCount) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            crawlJobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(status);
+                job.setNewsCount(newsCount);
+                job.setEndedAt(LocalDateTime.now());
+                crawlJobRepository.save(job);
+            });
+            crawlCheckpointRepository.deleteByJobId(jobId);
+        } catch (Exception e) {
+            log.warn("크롤링 작업 종료 기록 실패 - JobID: {}, 오류: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중인 작업의 하트비트를 기록합니다.
+     */
+    public void heartbeat(Collection<String> jobIds) {
+        if (!enabled || jobIds.isEmpty()) {
+            return;
+        }
+        try {
+            crawlJobRepository.heartbeat(jobIds, crawlTaskQueue.getInstanceId(), LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("크롤링 작업 하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 기록 없이 중단된 작업과 남은 키워드를 조회하고 재개 권한을 가져옵니다.
+     * 하트비트가 끊긴 작업과, includeOwn 이면 이 인스턴스 id 로 남은 작업(재시작 전 실행분)이 대상입니다.
+     */
+    public List<InterruptedJob> findInterruptedJobs(boolean includeOwn) {
+        if (!enabled) {
+            return List.of();
+        }
+
+        String owner = crawlTaskQueue.getInstanceId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minus(Duration.ofMillis(heartbeatTimeoutMillis));
+        List<InterruptedJob> interrupted = new ArrayList<>();
+        for (CrawlJob job : crawlJobRepository.findByStatus(RUNNING)) {
+            boolean expired = job.getHeartbeatAt() == null || job.getHeartbeatAt().isBefore(expiredBefore);
+            boolean own = owner.equals(job.getOwnerInstance());
+            if (!expired && !(includeOwn && own)) {
+                continue;
+            }
+            try {
+                if (crawlJobRepository.claimForResume(job.getJobId(), owner, now, expiredBefore) == 0) {
+                    continue; // 다른 인스턴스가 먼저 가져감
+                }
+                List<String> keywords = objectMapper.readValue(job.getKeywords(), new TypeReference<List<String>>() {});
+                Set<String> completed = new HashSet<>(crawlCheckpointRepository.findCompletedKeywords(job.getJobId()));
+
+                List<String> remaining = new ArrayList<>();
+                for (String keyword : keywords) {
+                    if (!completed.contains(keyword)) {
+                        remaining.add(keyword);
+                    }
+                }
+
+                NewsDTO.CrawlRequest request = NewsDTO.CrawlRequest.builder()
+                        .keywords(remaining)
+                        .source(job.getSource())
+                        .sortBy(job.getSortBy() != null ? job.getSortBy() : "relevance")
+                        .maxResults(job.getMaxResults() != null ? job.getMaxResults() : 100)
+                        .build();
+                interrupted.add(new InterruptedJob(job.getJobId(), job.getUserId(), request, completed.size()));
+            } catch (Exception e) {
+                log.warn("중단된 크롤링 작업 복원 실패 - JobID: {}, 오류: {}", job.getJobId(), e.getMessage());
+            }
+        }
+        return interrupted;
+    }
+
+    public record InterruptedJob(String jobId, Long userId, NewsDTO.CrawlRequest remainingRequest, int completedKeywords) {
+    }
+}
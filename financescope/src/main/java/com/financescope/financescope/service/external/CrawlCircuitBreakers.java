@@ -0,0 +1,180 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.util.CircuitBreaker;
+import com.financescope.financescope.util.LatencyTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 크롤러 공용 출처별 회로 차단기와 응답 지연 표본
+ *
+ * 출처가 연달아 실패하면(429 / 5xx / 타임아웃) 회로를 열어 이후 요청을 기다리지 않고 바로 실패시키므로,
+ * 호출하는 쪽은 즉시 대체 경로로 넘어갈 수 있습니다. 일정 시간 뒤 시험 요청이 성공하면 다시 닫힙니다.
+ * 성공한 요청의 지연을 출처별로 모아 대체 경로를 미리 띄울 시점(p95)을 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlCircuitBreakers {
+
+    private static final int LATENCY_SAMPLES = 256;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.crawling.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    // 최근 window-size 개 중 min-calls 개 이상 호출되었고 실패 비율이 failure-rate-threshold 이상이면 열림
+    @Value("${app.crawling.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${app.crawling.circuit-breaker.min-calls:5}")
+    private int minCalls;
+
+    @Value("${app.crawling.circuit-breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${app.crawling.circuit-breaker.open-duration:30000}")
+    private long openDuration;
+
+    @Value("${app.crawling.circuit-breaker.half-open-probes:2}")
+    private int halfOpenProbes;
+
+    // 응답이 p95 보다 늦으면 대체 경로를 함께 띄워 먼저 결과를 낸 쪽을 사용 (hedged request)
+    @Value("${app.crawling.circuit-breaker.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    // 대체 경로를 띄우기 전 기다릴 최소 시간, p95 계산에 필요한 최소 표본 수
+    @Value("${app.crawling.circuit-breaker.hedge.min-delay:500}")
+    private long hedgeMinDelay;
+
+    @Value("${app.crawling.circuit-breaker.hedge.min-samples:20}")
+    private int hedgeMinSamples;
+
+    private final Map<String, Source> sources = new ConcurrentHashMap<>();
+
+    /**
+     * 회로가 열려 있지 않으면 true. (상태를 바꾸지 않으므로 요청 전 빠른 확인용)
+     */
+    public boolean isCallPermitted(String host) {
+        return !enabled || sourceFor(host).breaker().isCallPermitted();
+    }
+
+    /**
+     * 회로 허가를 받은 뒤 요청을 구독하고 결과를 기록합니다.
+     * 회로가 열려 있으면 요청하지 않고 CircuitBreaker.OpenException 으로 실패합니다.
+     */
+    public <T> Mono<T> protect(String host, Mono<T> request) {
+        if (!enabled) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            Source source = sourceFor(host);
+            CircuitBreaker breaker = source.breaker();
+            if (!breaker.tryAcquire()) {
+                return Mono.error(new CircuitBreaker.OpenException(host));
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return request
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            source.latencies().record(System.nanoTime() - start);
+                            breaker.onSuccess();
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            if (CrawlConcurrencyLimiter.isOverload(e)) {
+                                onFailure(host, breaker, e);
+                            } else {
+                                breaker.onSuccess();
+                            }
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL && recorded.compareAndSet(false, true)) {
+                            breaker.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 대체 경로를 미리 띄울 지연 (성공 응답 p95, 최소 hedge.min-delay).
+     * 꺼져 있거나 표본이 부족하면 null 을 반환하며, 이때는 대체 경로를 미리 띄우지 않습니다.
+     */
+    public Duration hedgeDelay(String host) {
+        if (!enabled || !hedgeEnabled) {
+            return null;
+        }
+        LatencyTracker latencies = sourceFor(host).latencies();
+        if (latencies.size() < Math.max(1, hedgeMinSamples)) {
+            return null;
+        }
+        long p95 = TimeUnit.NANOSECONDS.toMillis(latencies.percentile(0.95));
+        return Duration.ofMillis(Math.max(hedgeMinDelay, p95));
+    }
+
+    /**
+     * 출처별 회로 상태 / 실패 비율 / p95 지연 (액추에이터 crawllimits 엔드포인트)
+     */
+    public Map<String, Map<String, Object>> getStates() {
+        Map<String, Map<String, Object>> states = new LinkedHashMap<>();
+        sources.forEach((host, source) -> states.put(host, Map.of(
+                "state", source.breaker().getState().name(),
+                "failureRate", source.breaker().getFailureRate(),
+                "p95LatencyMs", TimeUnit.NANOSECONDS.toMillis(source.latencies().percentile(0.95)))));
+        return states;
+    }
+
+    private void onFailure(String host, CircuitBreaker breaker, Throwable e) {
+        CircuitBreaker.State before = breaker.getState();
+        breaker.onFailure();
+        if (before != CircuitBreaker.State.OPEN && breaker.getState() == CircuitBreaker.State.OPEN) {
+            log.warn("회로 차단 - 출처: {}, {}ms 동안 요청 중단, 마지막 오류: {}", host, openDuration, e.getMessage());
+        }
+    }
+
+    private Source sourceFor(String host) {
+        Source source = sources.get(host);
+        if (source != null) {
+            return source;
+        }
+        Source created = new Source(
+                new CircuitBreaker(windowSize, minCalls, failureRateThreshold,
+                        TimeUnit.MILLISECONDS.toNanos(openDuration), halfOpenProbes),
+                new LatencyTracker(LATENCY_SAMPLES));
+        Source existing = sources.putIfAbsent(host, created);
+        if (existing != null) {
+            return existing;
+        }
+        // 0: 닫힘, 1: 반 열림, 2: 열림
+        Gauge.builder("crawl.source.circuit.state", created.breaker(), breaker -> switch (breaker.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .description("출처별 회로 상태 (0: 닫힘, 1: 반 열림, 2: 열림)")
+                .tag("source", host)
+                .register(meterRegistry);
+        return created;
+    }
+
+    private record Source(CircuitBreaker breaker, LatencyTracker latencies) {
+    }
+}
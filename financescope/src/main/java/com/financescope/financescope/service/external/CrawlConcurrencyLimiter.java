@@ -0,0 +1,169 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.util.AimdLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 크롤러 공용 출처별 적응형 동시 요청 한도
+ *
+ * CrawlRateLimiter 가 초당 요청 수를 고정된 값으로 제한한다면, 여기서는 출처마다 동시에 보낼 수 있는
+ * 요청 수를 응답 상태에 따라 조절합니다. (AIMD: 정상이면 조금씩 늘리고, 429 / 5xx / 타임아웃 / 느린 응답이면 줄임)
+ * 모든 크롤링 작업이 같은 한도를 공유하므로 전체 처리량이 상대 서버가 감당하는 수준을 따라갑니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlConcurrencyLimiter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.crawling.concurrency.enabled:true}")
+    private boolean enabled;
+
+    // 감소 시 곱할 비율, 기준 지연 대비 허용 배수
+    @Value("${app.crawling.concurrency.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    @Value("${app.crawling.concurrency.latency-tolerance:3.0}")
+    private double latencyTolerance;
+
+    @Value("${app.crawling.concurrency.naver-api.initial-limit:8}")
+    private int naverApiInitialLimit;
+
+    @Value("${app.crawling.concurrency.naver-api.max-limit:32}")
+    private int naverApiMaxLimit;
+
+    @Value("${app.crawling.concurrency.naver-web.initial-limit:2}")
+    private int naverWebInitialLimit;
+
+    @Value("${app.crawling.concurrency.naver-web.max-limit:4}")
+    private int naverWebMaxLimit;
+
+    @Value("${app.crawling.concurrency.google-news.initial-limit:2}")
+    private int googleNewsInitialLimit;
+
+    @Value("${app.crawling.concurrency.google-news.max-limit:8}")
+    private int googleNewsMaxLimit;
+
+    // 설정되지 않은 출처
+    @Value("${app.crawling.concurrency.default.initial-limit:2}")
+    private int defaultInitialLimit;
+
+    @Value("${app.crawling.concurrency.default.max-limit:4}")
+    private int defaultMaxLimit;
+
+    private final Map<String, AimdLimiter> limiters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        register(CrawlRateLimiter.NAVER_API_HOST, naverApiInitialLimit, naverApiMaxLimit);
+        register(CrawlRateLimiter.NAVER_SEARCH_HOST, naverWebInitialLimit, naverWebMaxLimit);
+        register(CrawlRateLimiter.GOOGLE_NEWS_HOST, googleNewsInitialLimit, googleNewsMaxLimit);
+
+        log.info("크롤링 동시 요청 한도 설정 - {}: {}(최대 {}), {}: {}(최대 {}), {}: {}(최대 {})",
+                CrawlRateLimiter.NAVER_API_HOST, naverApiInitialLimit, naverApiMaxLimit,
+                CrawlRateLimiter.NAVER_SEARCH_HOST, naverWebInitialLimit, naverWebMaxLimit,
+                CrawlRateLimiter.GOOGLE_NEWS_HOST, googleNewsInitialLimit, googleNewsMaxLimit);
+    }
+
+    /**
+     * 출처의 허가를 받은 뒤 요청을 구독하고, 결과에 따라 한도를 조절합니다.
+     * 허가를 기다리는 동안에도 스레드를 점유하지 않으며, 구독이 취소되면 허가를 반납합니다.
+     */
+    public <T> Mono<T> limit(String host, Mono<T> request) {
+        if (!enabled) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            AimdLimiter limiter = limiterFor(host);
+            AtomicReference<AimdLimiter.Permit> held = new AtomicReference<>();
+
+            return Mono.<AimdLimiter.Permit>create(sink -> {
+                        AimdLimiter.Ticket ticket = limiter.acquire(sink::success);
+                        sink.onCancel(ticket::cancel);
+                    })
+                    .flatMap(permit -> {
+                        held.set(permit);
+                        return request
+                                .doOnSuccess(value -> permit.release(AimdLimiter.Outcome.SUCCESS))
+                                .doOnError(e -> permit.release(classify(e)));
+                    })
+                    .doFinally(signal -> {
+                        AimdLimiter.Permit permit = held.get();
+                        if (permit != null && signal == SignalType.CANCEL) {
+                            permit.release(AimdLimiter.Outcome.IGNORED);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 출처별 현재 한도 / 실행 중 / 대기 중 요청 수 (액추에이터 crawllimits 엔드포인트)
+     */
+    public Map<String, Map<String, Object>> getLimits() {
+        Map<String, Map<String, Object>> limits = new LinkedHashMap<>();
+        limiters.forEach((host, limiter) -> limits.put(host, Map.of(
+                "limit", limiter.getLimit(),
+                "inFlight", limiter.getInFlight(),
+                "waiting", limiter.getWaiting(),
+                "baselineLatencyMs", TimeUnit.NANOSECONDS.toMillis(limiter.getBaselineNanos()),
+                "dropped", limiter.getDropped())));
+        return limits;
+    }
+
+    private AimdLimiter.Outcome classify(Throwable e) {
+        return isOverload(e) ? AimdLimiter.Outcome.DROPPED : AimdLimiter.Outcome.IGNORED;
+    }
+
+    /**
+     * 상대 서버의 과부하로 볼 수 있는 실패인지 (429, 5xx, 연결 실패, 타임아웃)
+     * 그 외 4xx 나 파싱 오류는 서버가 응답한 것이므로 한도 / 회로 판단에 쓰지 않습니다.
+     */
+    static boolean isOverload(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        // 연결 실패 / 응답 타임아웃은 WebClientRequestException 으로 감싸져 옴
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private AimdLimiter limiterFor(String host) {
+        AimdLimiter limiter = limiters.get(host);
+        return limiter != null ? limiter : register(host, defaultInitialLimit, defaultMaxLimit);
+    }
+
+    private AimdLimiter register(String host, int initialLimit, int maxLimit) {
+        AimdLimiter created = new AimdLimiter(initialLimit, 1, Math.max(1, maxLimit), backoffRatio, latencyTolerance);
+        AimdLimiter existing = limiters.putIfAbsent(host, created);
+        if (existing != null) {
+            return existing;
+        }
+        Gauge.builder("crawl.source.concurrency.limit", created, AimdLimiter::getLimit)
+                .description("출처별 적응형 동시 요청 한도")
+                .tag("source", host)
+                .register(meterRegistry);
+        Gauge.builder("crawl.source.concurrency.in-flight", created, AimdLimiter::getInFlight)
+                .description("출처별 실행 중인 요청 수")
+                .tag("source", host)
+                .register(meterRegistry);
+        return created;
+    }
+}
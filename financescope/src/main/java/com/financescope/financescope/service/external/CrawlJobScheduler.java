@@ -0,0 +1,246 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크롤링 작업 대기열 (사용자별 공정 스케줄링)
+ *
+ * 동시에 실행되는 크롤링 작업 수를 max-running-jobs 로 제한하고, 나머지는 사용자별 대기열에 넣습니다.
+ * 빈 자리가 생기면 대기 중인 사용자를 돌아가며 구독 플랜 가중치만큼씩 꺼내므로(가중 라운드 로빈),
+ * 한 사용자가 작업을 몰아서 등록해도 다른 사용자의 작업이 뒤로 밀리지 않습니다.
+ *
+ * 작업 시작은 가상 스레드에서 실행되어, 작업 종료를 알린 스레드(이벤트 루프 등)를 막지 않습니다.
+ * 대기열 길이 / 실행 중인 작업 수는 게이지로, 대기 시간 / 실행 시간은 플랜별 타이머로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlJobScheduler {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.crawling.scheduler.max-running-jobs:5}")
+    private int maxRunningJobs;
+
+    @Value("${app.crawling.scheduler.max-queued-jobs-per-user:100}")
+    private int maxQueuedJobsPerUser;
+
+    // 한 차례에 꺼낼 작업 수 (구독 플랜별 가중치)
+    @Value("${app.crawling.scheduler.weight.free:1}")
+    private int freeWeight;
+
+    @Value("${app.crawling.scheduler.weight.premium:3}")
+    private int premiumWeight;
+
+    @Value("${app.crawling.scheduler.weight.enterprise:5}")
+    private int enterpriseWeight;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 사용자 id → 대기열 (익명 작업은 null 키 하나로 묶음)
+    private final Map<Long, UserQueue> userQueues = new HashMap<>();
+    // 대기 작업이 있는 사용자 순환 목록
+    private final ArrayDeque<UserQueue> rotation = new ArrayDeque<>();
+    private final Map<String, QueuedJob> queuedJobs = new HashMap<>();
+    private final Map<String, RunningJob> runningJobs = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("crawl.jobs.queued", this, CrawlJobScheduler::getQueuedCount)
+                .description("실행을 기다리는 크롤링 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("crawl.jobs.running", this, CrawlJobScheduler::getRunningCount)
+                .description("실행 중인 크롤링 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 대기열에 넣습니다. 자리가 있으면 바로 시작됩니다.
+     * starter 는 작업을 시작만 하고 반환해야 하며, 작업이 끝나면 {@link #finished(String)} 를 호출해야 합니다.
+     */
+    public void submit(String jobId, Long userId, User.SubscriptionPlan plan, Runnable starter) {
+        List<QueuedJob> ready;
+        lock.lock();
+        try {
+            UserQueue queue = userQueues.computeIfAbsent(userId, id -> new UserQueue(id, weightOf(plan)));
+            if (queue.jobs.size() >= maxQueuedJobsPerUser) {
+                throw new RuntimeException("대기 중인 크롤링 작업이 너무 많습니다. 이전 작업이 끝난 뒤 다시 시도해주세요.");
+            }
+            QueuedJob job = new QueuedJob(jobId, queue, planOf(plan), starter, System.nanoTime());
+            // 플랜이 바뀌었으면 다음 차례부터 반영
+            queue.weight = weightOf(plan);
+            queue.jobs.addLast(job);
+            queuedJobs.put(jobId, job);
+            if (queue.jobs.size() == 1 && !rotation.contains(queue)) {
+                rotation.addLast(queue);
+            }
+            ready = dispatch();
+        } finally {
+            lock.unlock();
+        }
+        if (ready.stream().noneMatch(job -> job.jobId().equals(jobId))) {
+            log.info("크롤링 작업 대기 - JobID: {}, 대기 작업: {}개, 실행 중: {}개", jobId, getQueuedCount(), getRunningCount());
+        }
+        start(ready);
+    }
+
+    /**
+     * 아직 시작되지 않은 작업을 대기열에서 뺍니다. 대기 중이었으면 true.
+     */
+    public boolean remove(String jobId) {
+        lock.lock();
+        try {
+            QueuedJob job = queuedJobs.remove(jobId);
+            if (job == null) {
+                return false;
+            }
+            job.queue.jobs.remove(job);
+            if (job.queue.jobs.isEmpty()) {
+                rotation.remove(job.queue);
+                userQueues.remove(job.queue.userId);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 종료를 알리고 다음 작업을 시작합니다. 여러 번 호출해도 한 번만 반영됩니다.
+     */
+    public void finished(String jobId) {
+        List<QueuedJob> ready;
+        lock.lock();
+        try {
+            RunningJob running = runningJobs.remove(jobId);
+            if (running == null) {
+                return;
+            }
+            runTimer(running.plan).record(System.nanoTime() - running.startedAt, TimeUnit.NANOSECONDS);
+            ready = dispatch();
+        } finally {
+            lock.unlock();
+        }
+        start(ready);
+    }
+
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queuedJobs.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return runningJobs.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 빈 자리만큼 순환 목록 앞의 사용자부터 꺼냄 (lock 보유 상태에서 호출)
+    private List<QueuedJob> dispatch() {
+        List<QueuedJob> ready = new ArrayList<>();
+        long now = System.nanoTime();
+        while (runningJobs.size() < Math.max(1, maxRunningJobs) && !rotation.isEmpty()) {
+            UserQueue queue = rotation.peekFirst();
+            QueuedJob job = queue.jobs.pollFirst();
+            queuedJobs.remove(job.jobId);
+            runningJobs.put(job.jobId, new RunningJob(job.plan, now));
+            waitTimer(job.plan).record(now - job.enqueuedAt, TimeUnit.NANOSECONDS);
+            ready.add(job);
+
+            // 가중치만큼 꺼냈거나 대기열이 비면 다음 사용자 차례
+            queue.served++;
+            if (queue.jobs.isEmpty()) {
+                rotation.pollFirst();
+                userQueues.remove(queue.userId);
+                queue.served = 0;
+            } else if (queue.served >= queue.weight) {
+                rotation.addLast(rotation.pollFirst());
+                queue.served = 0;
+            }
+        }
+        return ready;
+    }
+
+    private void start(List<QueuedJob> ready) {
+        for (QueuedJob job : ready) {
+            Thread.ofVirtual().name("crawl-job-start-" + job.jobId).start(() -> {
+                try {
+                    job.starter.run();
+                } catch (Exception e) {
+                    log.error("크롤링 작업 시작 실패 - JobID: {}, 오류: {}", job.jobId, e.getMessage());
+                    finished(job.jobId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 구독 플랜의 가중치 (한 차례에 꺼낼 작업 수, 분산 대기열의 임대 비율에도 사용)
+     */
+    public int weightOf(User.SubscriptionPlan plan) {
+        return Math.max(1, switch (planOf(plan)) {
+            case FREE -> freeWeight;
+            case PREMIUM -> premiumWeight;
+            case ENTERPRISE -> enterpriseWeight;
+        });
+    }
+
+    private static User.SubscriptionPlan planOf(User.SubscriptionPlan plan) {
+        return plan != null ? plan : User.SubscriptionPlan.FREE;
+    }
+
+    private Timer waitTimer(User.SubscriptionPlan plan) {
+        return Timer.builder("crawl.jobs.wait")
+                .description("크롤링 작업 대기 시간")
+                .tag("plan", plan.name())
+                .register(meterRegistry);
+    }
+
+    private Timer runTimer(User.SubscriptionPlan plan) {
+        return Timer.builder("crawl.jobs.run")
+                .description("크롤링 작업 실행 시간")
+                .tag("plan", plan.name())
+                .register(meterRegistry);
+    }
+
+    private static class UserQueue {
+        private final Long userId;
+        private final ArrayDeque<QueuedJob> jobs = new ArrayDeque<>();
+        private int weight;
+        // 이번 차례에 꺼낸 작업 수
+        private int served;
+
+        UserQueue(Long userId, int weight) {
+            this.userId = userId;
+            this.weight = weight;
+        }
+    }
+
+    private record QueuedJob(String jobId, UserQueue queue, User.SubscriptionPlan plan, Runnable starter, long enqueuedAt) {
+    }
+
+    private record RunningJob(User.SubscriptionPlan plan, long startedAt) {
+    }
+}
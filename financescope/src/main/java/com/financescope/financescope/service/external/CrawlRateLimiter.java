@@ -0,0 +1,81 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.util.TokenBucket;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 크롤러 공용 호스트별 요청 속도 제한기
+ *
+ * 모든 크롤링 작업이 같은 버킷을 공유하므로 동시에 실행되는 작업끼리도
+ * 같은 호스트에 대해서는 함께 제한되고, 서로 다른 호스트는 독립적으로 진행됩니다.
+ */
+@Component
+@Slf4j
+public class CrawlRateLimiter {
+
+    public static final String NAVER_API_HOST = "openapi.naver.com";
+    public static final String NAVER_SEARCH_HOST = "search.naver.com";
+    public static final String GOOGLE_NEWS_HOST = "news.google.com";
+
+    @Value("${app.crawling.rate-limit.naver-api.burst:10}")
+    private int naverApiBurst;
+
+    @Value("${app.crawling.rate-limit.naver-api.permits-per-second:10}")
+    private double naverApiPermitsPerSecond;
+
+    @Value("${app.crawling.rate-limit.naver-web.burst:2}")
+    private int naverWebBurst;
+
+    @Value("${app.crawling.rate-limit.naver-web.permits-per-second:1}")
+    private double naverWebPermitsPerSecond;
+
+    @Value("${app.crawling.rate-limit.google-news.burst:3}")
+    private int googleNewsBurst;
+
+    @Value("${app.crawling.rate-limit.google-news.permits-per-second:2}")
+    private double googleNewsPermitsPerSecond;
+
+    // 설정되지 않은 호스트는 request-delay 간격으로 1건씩 허용
+    @Value("${app.crawling.request-delay:1000}")
+    private long requestDelay;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        buckets.put(NAVER_API_HOST, new TokenBucket(naverApiBurst, naverApiPermitsPerSecond));
+        buckets.put(NAVER_SEARCH_HOST, new TokenBucket(naverWebBurst, naverWebPermitsPerSecond));
+        buckets.put(GOOGLE_NEWS_HOST, new TokenBucket(googleNewsBurst, googleNewsPermitsPerSecond));
+
+        log.info("크롤링 속도 제한 설정 - {}: {}/s(burst {}), {}: {}/s(burst {}), {}: {}/s(burst {})",
+                NAVER_API_HOST, naverApiPermitsPerSecond, naverApiBurst,
+                NAVER_SEARCH_HOST, naverWebPermitsPerSecond, naverWebBurst,
+                GOOGLE_NEWS_HOST, googleNewsPermitsPerSecond, googleNewsBurst);
+    }
+
+    /**
+     * 토큰을 예약하고 요청 전 대기해야 할 시간을 반환합니다. 호출 측이 스레드를 막지 않고 지연시킵니다.
+     */
+    public Duration reserve(String host) {
+        return Duration.ofNanos(bucketFor(host).reserve());
+    }
+
+    public Map<String, Double> getAvailableTokens() {
+        Map<String, Double> available = new LinkedHashMap<>();
+        buckets.forEach((host, bucket) -> available.put(host, bucket.getAvailableTokens()));
+        return available;
+    }
+
+    private TokenBucket bucketFor(String host) {
+        return buckets.computeIfAbsent(host,
+                h -> new TokenBucket(1, 1000d / Math.max(1L, requestDelay)));
+    }
+}
@@ -0,0 +1,441 @@
+package com.financescope.financescope.service.external;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financescope.financescope.dto.news.NewsDTO;
+import com.financescope.financescope.entity.CrawlJob;
+import com.financescope.financescope.entity.CrawlTask;
+import com.financescope.financescope.repository.CrawlJobRepository;
+import com.financescope.financescope.repository.CrawlTaskRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DB 임대(lease) 기반 분산 크롤링 대기열
+ *
+ * 작업을 crawl_job 에, 키워드마다 crawl_task 를 한 행씩 저장하고, 각 인스턴스가
+ * SELECT ... FOR UPDATE SKIP LOCKED 로 서로 다른 키워드를 임대해 실행합니다.
+ * 실행 중에는 임대를 주기적으로 연장하고, 인스턴스가 죽어 임대가 만료되면 다른 인스턴스가 이어받습니다.
+ * 임대 순서는 사용자별 가중 공정 분배입니다. 실행 중인 키워드 수 / 플랜 가중치가 가장 작은 사용자부터
+ * 하나씩 나눠 주므로(CrawlJobScheduler 의 가중 라운드 로빈과 같은 비율), 한 사용자가 작업을 몰아 넣어도
+ * 다른 사용자의 작업이 뒤로 밀리지 않습니다. 판단 근거가 DB 상태라 클러스터 전체에서 공정합니다.
+ * 작업 상태와 진행률도 DB 에서 계산하므로 어느 인스턴스에서든 조회 / 취소할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlTaskQueue {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String CANCELLED = "CANCELLED";
+
+    // 키워드 작업 상태
+    public static final String PENDING = "PENDING";
+    public static final String LEASED = "LEASED";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private static final List<String> ACTIVE_JOB_STATUSES = List.of(QUEUED, RUNNING);
+
+    private final CrawlJobRepository crawlJobRepository;
+    private final CrawlTaskRepository crawlTaskRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.crawling.distributed.enabled:false}")
+    private boolean enabled;
+
+    // 비어 있으면 호스트명-PID-임의값
+    @Value("${app.crawling.distributed.instance-id:}")
+    private String configuredInstanceId;
+
+    @Value("${app.crawling.distributed.lease-duration:60000}")
+    private long leaseDurationMillis;
+
+    // 임대 만료(인스턴스 중단) / 저장 실패로 다시 실행할 최대 횟수
+    @Value("${app.crawling.distributed.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.crawling.scheduler.max-queued-jobs-per-user:100}")
+    private int maxQueuedJobsPerUser;
+
+    private String instanceId;
+
+    @PostConstruct
+    public void init() {
+        instanceId = configuredInstanceId == null || configuredInstanceId.isBlank()
+                ? defaultInstanceId()
+                : configuredInstanceId;
+        if (enabled) {
+            log.info("분산 크롤링 활성화 - 인스턴스: {}, 임대 시간: {}ms, 최대 시도: {}회",
+                    instanceId, leaseDurationMillis, maxAttempts);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public long getLeaseDurationMillis() {
+        return leaseDurationMillis;
+    }
+
+    /**
+     * 작업과 키워드별 작업을 저장합니다. 실행은 임대를 잡은 인스턴스가 시작합니다.
+     * weight 는 사용자 구독 플랜 가중치입니다. (CrawlJobScheduler.weightOf)
+     */
+    @Transactional
+    public void enqueue(String jobId, Long userId, int weight, NewsDTO.CrawlRequest request) {
+        if (crawlJobRepository.countByUserIdAndStatusIn(userId, ACTIVE_JOB_STATUSES) >= maxQueuedJobsPerUser) {
+            throw new RuntimeException("대기 중인 크롤링 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Set<String> keywords = new LinkedHashSet<>(request.getKeywords());
+        crawlJobRepository.save(CrawlJob.builder()
+                .jobId(jobId)
+                .userId(userId)
+                .keywords(toJson(List.copyOf(keywords)))
+                .source(request.getSource())
+                .sortBy(request.getSortBy())
+                .maxResults(request.getMaxResults())
+                .status(QUEUED)
+                .newsCount(0)
+                .build());
+
+        List<CrawlTask> tasks = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            tasks.add(CrawlTask.builder()
+                    .jobId(jobId)
+                    .keyword(keyword)
+                    .status(PENDING)
+                    .userId(userId)
+                    .weight(Math.max(1, weight))
+                    .build());
+        }
+        crawlTaskRepository.saveAll(tasks);
+    }
+
+    /**
+     * 대기 중이거나 임대가 만료된 키워드 작업을 사용자별 가중 공정 순서로 최대 limit 개 임대합니다.
+     * 다른 인스턴스가 잠근 행은 건너뛰며, 최대 시도 횟수를 넘긴 작업은 실패로 처리합니다.
+     */
+    @Transactional
+    public List<ClaimedTask> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<CrawlTask> locked = lockFairly(now, limit);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+
+        // 시도 횟수를 넘긴 키워드가 있는 작업만 종료 판단을 위해 잠금 (그 외에는 작업 행을 잠그지 않아 임대끼리 서로 기다리지 않음)
+        Set<String> exhaustedJobs = locked.stream()
+                .filter(task -> task.getAttempts() >= maxAttempts)
+                .map(CrawlTask::getJobId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        exhaustedJobs.forEach(crawlJobRepository::lockById);
+
+        Map<String, CrawlJob> jobs = crawlJobRepository.findAllById(
+                        locked.stream().map(CrawlTask::getJobId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(CrawlJob::getJobId, Function.identity()));
+
+        List<ClaimedTask> claimed = new ArrayList<>();
+        for (CrawlTask task : locked) {
+            CrawlJob job = jobs.get(task.getJobId());
+            if (job == null || task.getAttempts() >= maxAttempts) {
+                log.warn("키워드 작업 실패 처리 (시도 횟수 초과) - JobID: {}, 키워드: {}, 이전 임대: {}",
+                        task.getJobId(), task.getKeyword(), task.getLeaseOwner());
+                task.setStatus(FAILED);
+                task.setLeaseExpiresAt(null);
+                task.setError(job == null ? "작업 정보가 없습니다." : "최대 시도 횟수(" + maxAttempts + "회)를 초과했습니다.");
+                continue;
+            }
+            if (LEASED.equals(task.getStatus())) {
+                log.info("만료된 임대 인수 - JobID: {}, 키워드: {}, 이전 임대: {}",
+                        task.getJobId(), task.getKeyword(), task.getLeaseOwner());
+            }
+            task.setStatus(LEASED);
+            task.setLeaseOwner(instanceId);
+            task.setLeaseExpiresAt(now.plusNanos(leaseDurationMillis * 1_000_000));
+            task.setAttempts(task.getAttempts() + 1);
+            claimed.add(new ClaimedTask(task.getId(), job.getJobId(), job.getUserId(), task.getKeyword(),
+                    task.getAttempts(), toTaskRequest(job, task.getKeyword())));
+        }
+
+        exhaustedJobs.forEach(this::finishJobIfDone);
+        return claimed;
+    }
+
+    // 실행 중인 키워드 수 / 가중치가 가장 작은 사용자부터 한 개씩 (같으면 가장 오래 기다린 사용자)
+    // 사용자마다 처음 차례가 왔을 때 필요한 만큼만 한 번에 잠그고, 쓰지 않은 행은 커밋 때 풀림
+    private List<CrawlTask> lockFairly(LocalDateTime now, int limit) {
+        Map<Long, Long> running = new HashMap<>();
+        for (Object[] row : crawlTaskRepository.countLeasedByUser(now)) {
+            running.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        PriorityQueue<UserShare> turns = new PriorityQueue<>(Comparator
+                .comparingDouble(UserShare::load)
+                .thenComparingLong(UserShare::oldestTaskId));
+        for (Object[] row : crawlTaskRepository.findClaimableUsers(now)) {
+            long userKey = ((Number) row[0]).longValue();
+            int weight = row[1] != null ? Math.max(1, ((Number) row[1]).intValue()) : 1;
+            turns.add(new UserShare(userKey, weight, running.getOrDefault(userKey, 0L), ((Number) row[2]).longValue()));
+        }
+
+        List<CrawlTask> locked = new ArrayList<>();
+        while (locked.size() < limit && !turns.isEmpty()) {
+            UserShare share = turns.poll();
+            if (share.lockedTasks == null) {
+                share.lockedTasks = new ArrayList<>(crawlTaskRepository.lockClaimable(share.userKey, now, limit - locked.size()));
+            }
+            if (share.lockedTasks.isEmpty()) {
+                continue; // 다른 인스턴스가 모두 잠갔거나 남은 작업 없음
+            }
+            locked.add(share.lockedTasks.remove(0));
+            share.running++;
+            turns.add(share);
+        }
+        return locked;
+    }
+
+    /**
+     * 임대를 연장합니다. 다른 인스턴스가 가져갔거나 작업이 취소되었으면 false.
+     */
+    @Transactional
+    public boolean renew(long taskId) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(leaseDurationMillis * 1_000_000);
+        return crawlTaskRepository.renewLease(taskId, instanceId, expiresAt) == 1;
+    }
+
+    /**
+     * 키워드 작업 완료를 기록하고, 마지막 키워드였으면 작업도 종료합니다. 갱신된 작업 상태를 반환합니다.
+     * 임대를 잃은 뒤의 기록은 무시됩니다. (이어받은 인스턴스가 다시 수집하며, 중복 기사는 저장 단계에서 걸러짐)
+     */
+    @Transactional
+    public Optional<JobSnapshot> complete(ClaimedTask task, int newsCount) {
+        crawlJobRepository.lockById(task.jobId());
+        if (crawlTaskRepository.release(task.taskId(), instanceId, DONE, newsCount, null) == 0) {
+            log.info("임대를 잃은 키워드 작업 결과 무시 - JobID: {}, 키워드: {}", task.jobId(), task.keyword());
+            return Optional.empty();
+        }
+        return finishJobIfDone(task.jobId());
+    }
+
+    /**
+     * 키워드 작업 실패를 기록합니다. 시도 횟수가 남았으면 다시 대기 상태로 돌려 다른 인스턴스가 재시도합니다.
+     */
+    @Transactional
+    public Optional<JobSnapshot> fail(ClaimedTask task, String error) {
+        String status = task.attempt() < maxAttempts ? PENDING : FAILED;
+        crawlJobRepository.lockById(task.jobId());
+        if (crawlTaskRepository.release(task.taskId(), instanceId, status, null, truncate(error)) == 0) {
+            return Optional.empty();
+        }
+        log.warn("키워드 작업 실패 - JobID: {}, 키워드: {}, 시도: {}/{}, 오류: {}",
+                task.jobId(), task.keyword(), task.attempt(), maxAttempts, error);
+        return finishJobIfDone(task.jobId());
+    }
+
+    /**
+     * 작업을 취소합니다. 대기 중인 키워드는 실행되지 않고, 실행 중인 키워드는 임대 연장에 실패하여 중단됩니다.
+     * 이미 끝난 작업이면 false.
+     */
+    @Transactional
+    public boolean cancel(String jobId) {
+        crawlJobRepository.lockById(jobId);
+        JobSnapshot snapshot = summarize(jobId).orElse(null);
+        if (snapshot == null
+                || crawlJobRepository.finishIfActive(jobId, CANCELLED, snapshot.newsCount(), null, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        crawlTaskRepository.cancelByJobId(jobId);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<JobSnapshot> snapshot(String jobId) {
+        return summarize(jobId);
+    }
+
+    // 남은 키워드가 없으면 작업을 종료 (한 키워드라도 완료되면 COMPLETED, 모두 실패하면 FAILED)
+    // 호출 전에 작업 행을 잠가 두어야 동시에 끝난 다른 인스턴스의 결과까지 보고 판단함
+    private Optional<JobSnapshot> finishJobIfDone(String jobId) {
+        Optional<JobSnapshot> current = summarize(jobId);
+        if (current.isEmpty() || current.get().isFinished() || current.get().remainingTasks() > 0) {
+            return current;
+        }
+
+        JobSnapshot snapshot = current.get();
+        boolean completed = snapshot.doneTasks() > 0 || snapshot.totalTasks() == 0;
+        String status = completed ? COMPLETED : FAILED;
+        String error = completed ? null : "모든 키워드 수집에 실패했습니다.";
+        if (crawlJobRepository.finishIfActive(jobId, status, snapshot.newsCount(), error, LocalDateTime.now()) == 0) {
+            // 다른 인스턴스가 먼저 종료 / 취소
+            return summarize(jobId);
+        }
+        log.info("분산 크롤링 작업 종료 - JobID: {}, 상태: {}, 수집된 뉴스: {}개", jobId, status, snapshot.newsCount());
+        return Optional.of(snapshot.withStatus(status, error));
+    }
+
+    private Optional<JobSnapshot> summarize(String jobId) {
+        Optional<CrawlJob> found = crawlJobRepository.findById(jobId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        CrawlJob job = found.get();
+
+        Map<String, long[]> byStatus = new HashMap<>();
+        for (Object[] row : crawlTaskRepository.summarizeByJobId(jobId)) {
+            byStatus.put((String) row[0], new long[] {((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+        int total = 0;
+        int newsCount = 0;
+        for (long[] counts : byStatus.values()) {
+            total += (int) counts[0];
+            newsCount += (int) counts[1];
+        }
+        int remaining = (int) (count(byStatus, PENDING) + count(byStatus, LEASED));
+        // 종료된 작업은 종료 시점에 기록한 값 사용
+        if (!ACTIVE_JOB_STATUSES.contains(job.getStatus()) && job.getNewsCount() != null) {
+            newsCount = job.getNewsCount();
+        }
+        // 임대 시 작업 행을 갱신하지 않으므로, 시작된 키워드가 있으면 실행 중으로 표시
+        String status = job.getStatus();
+        if (QUEUED.equals(status) && count(byStatus, PENDING) < total) {
+            status = RUNNING;
+        }
+        return Optional.of(new JobSnapshot(jobId, job.getUserId(), status, total,
+                (int) count(byStatus, DONE), remaining, newsCount, job.getError()));
+    }
+
+    private static long count(Map<String, long[]> byStatus, String status) {
+        long[] counts = byStatus.get(status);
+        return counts != null ? counts[0] : 0;
+    }
+
+    private NewsDTO.CrawlRequest toTaskRequest(CrawlJob job, String keyword) {
+        return NewsDTO.CrawlRequest.builder()
+                .keywords(List.of(keyword))
+                .source(job.getSource())
+                .sortBy(job.getSortBy() != null ? job.getSortBy() : "relevance")
+                .maxResults(job.getMaxResults() != null ? job.getMaxResults() : 100)
+                .build();
+    }
+
+    private String toJson(List<String> keywords) {
+        try {
+            return objectMapper.writeValueAsString(keywords);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("키워드 목록 변환에 실패했습니다.", e);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    private static String defaultInstanceId() {
+        String host = System.getenv("HOSTNAME");
+        if (host == null || host.isBlank()) {
+            host = "crawler";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 임대받은 키워드 작업 (request 는 해당 키워드 하나만 담은 요청)
+     */
+    // 임대 차례를 정할 사용자별 몫 (load = 실행 중인 키워드 수 / 가중치)
+    private static final class UserShare {
+        private final long userKey;
+        private final int weight;
+        private final long oldestTaskId;
+        private long running;
+        private List<CrawlTask> lockedTasks;
+
+        private UserShare(long userKey, int weight, long running, long oldestTaskId) {
+            this.userKey = userKey;
+            this.weight = weight;
+            this.running = running;
+            this.oldestTaskId = oldestTaskId;
+        }
+
+        double load() {
+            return (double) running / weight;
+        }
+
+        long oldestTaskId() {
+            return oldestTaskId;
+        }
+    }
+
+    public record ClaimedTask(long taskId, String jobId, Long userId, String keyword, int attempt,
+                              NewsDTO.CrawlRequest request) {
+    }
+
+    /**
+     * DB 에서 계산한 작업 상태 (어느 인스턴스에서 조회해도 같은 값)
+     */
+    public record JobSnapshot(String jobId, Long userId, String status, int totalTasks, int doneTasks,
+                              int remainingTasks, int newsCount, String error) {
+
+        public boolean isFinished() {
+            return !ACTIVE_JOB_STATUSES.contains(status);
+        }
+
+        // 종료 전에는 끝난 키워드 비율 (95%까지만 표시)
+        public int progress() {
+            if (COMPLETED.equals(status)) {
+                return 100;
+            }
+            if (totalTasks == 0) {
+                return 0;
+            }
+            return Math.min((totalTasks - remainingTasks) * 100 / totalTasks, 95);
+        }
+
+        public String message() {
+            return switch (status) {
+                case QUEUED -> "실행 대기 중";
+                case RUNNING -> "키워드 수집 중 (" + (totalTasks - remainingTasks) + "/" + totalTasks + ")";
+                case COMPLETED -> "크롤링 완료: " + newsCount + "개 뉴스 수집";
+                case CANCELLED -> "사용자에 의해 취소됨";
+                default -> "크롤링 실패: " + error;
+            };
+        }
+
+        JobSnapshot withStatus(String status, String error) {
+            return new JobSnapshot(jobId, userId, status, totalTasks, doneTasks, remainingTasks, newsCount, error);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.entity.CrawlWatermark;
+import com.financescope.financescope.entity.News;
+import com.financescope.financescope.repository.CrawlWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 증분 크롤링 기준점(워터마크) 저장소
+ *
+ * 사용자 / 키워드 / 수집 출처별로 마지막으로 저장한 가장 최신 기사의 발행 시각과 해시를 기억합니다.
+ * 최신순으로 내려오는 목록은 기준점에 닿는 순간 읽기를 멈춰 이미 수집한 기사를 다시 파싱 / 저장하지 않게 합니다.
+ * 순서가 보장되지 않는 목록(검색 RSS, 정확도순 API)에는 쓰지 않습니다. 기준점보다 오래된 기사라도
+ * 이전 실행이 읽지 않았을 수 있기 때문입니다.
+ * 기준점은 키워드 결과가 모두 저장된 뒤에만 전진하므로, 실패하거나 취소된 작업은 다음 실행에서 다시 수집됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlWatermarkStore {
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final CrawlWatermarkRepository crawlWatermarkRepository;
+
+    @Value("${app.crawling.watermark.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 작업에 쓸 키워드들의 기준점을 한 번에 읽어 옵니다.
+     * 비활성화되었거나 사용자가 없는 작업은 기준점 없이 전체를 수집합니다.
+     */
+    public JobWatermarks open(Long userId, Collection<String> keywords) {
+        if (!enabled || userId == null || keywords == null || keywords.isEmpty()) {
+            return new JobWatermarks(null, Map.of());
+        }
+
+        Map<String, Watermark> known = new HashMap<>();
+        try {
+            for (CrawlWatermark watermark : crawlWatermarkRepository.findByUserIdAndKeywordIn(userId, keywords)) {
+                known.put(key(watermark.getSource(), watermark.getKeyword()),
+                        new Watermark(watermark.getLatestPublishedDate(), watermark.getLastContentHash()));
+            }
+        } catch (Exception e) {
+            log.warn("크롤링 기준점 조회 실패, 전체 수집으로 진행 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            known.clear();
+        }
+        return new JobWatermarks(userId, known);
+    }
+
+    /**
+     * 키워드 결과가 모두 저장된 뒤 호출되어, 끝까지 읽은 출처의 기준점을 이번에 본 가장 최신 기사로 전진시킵니다.
+     */
+    public void commit(JobWatermarks job, String keyword) {
+        if (job.userId == null) {
+            return;
+        }
+        for (Map.Entry<String, Watermark> entry : job.candidates.entrySet()) {
+            String key = entry.getKey();
+            // 출처(호스트)에는 구분자가 없으므로 첫 구분자 기준으로 나눔
+            int separator = key.indexOf(KEY_SEPARATOR);
+            if (!job.completedStreams.contains(key) || !keyword.equals(key.substring(separator + 1))) {
+                continue;
+            }
+            advance(job.userId, keyword, key.substring(0, separator), entry.getValue());
+        }
+    }
+
+    private void advance(Long userId, String keyword, String source, Watermark candidate) {
+        try {
+            CrawlWatermark watermark = crawlWatermarkRepository.findByUserIdAndKeywordAndSource(userId, keyword, source)
+                    .orElseGet(() -> CrawlWatermark.builder()
+                            .userId(userId)
+                            .keyword(keyword)
+                            .source(source)
+                            .build());
+
+            // 동시에 실행된 다른 작업이 더 앞까지 전진시켰으면 유지
+            if (watermark.getLatestPublishedDate() != null && candidate.latestPublishedDate() != null
+                    && candidate.latestPublishedDate().isBefore(watermark.getLatestPublishedDate())) {
+                return;
+            }
+            watermark.setLatestPublishedDate(candidate.latestPublishedDate());
+            watermark.setLastContentHash(candidate.lastContentHash());
+            crawlWatermarkRepository.save(watermark);
+            log.debug("크롤링 기준점 전진 - 사용자: {}, 키워드: {}, 출처: {}, 기준 시각: {}",
+                    userId, keyword, source, candidate.latestPublishedDate());
+        } catch (Exception e) {
+            log.warn("크롤링 기준점 기록 실패 - 사용자: {}, 키워드: {}, 출처: {}, 오류: {}",
+                    userId, keyword, source, e.getMessage());
+        }
+    }
+
+    private static String key(String source, String keyword) {
+        return source + KEY_SEPARATOR + keyword;
+    }
+
+    public record Watermark(LocalDateTime latestPublishedDate, String lastContentHash) {
+
+        // 기준점과 같은 기사이거나 기준점보다 먼저 발행된 기사 (같은 시각은 새 기사일 수 있으므로 통과)
+        boolean covers(News news) {
+            if (lastContentHash != null && lastContentHash.equals(news.getContentHash())) {
+                return true;
+            }
+            return latestPublishedDate != null && news.getPublishedDate() != null
+                    && news.getPublishedDate().isBefore(latestPublishedDate);
+        }
+
+        boolean isNewerThan(Watermark other) {
+            if (other.latestPublishedDate == null) {
+                return latestPublishedDate != null;
+            }
+            return latestPublishedDate != null && latestPublishedDate.isAfter(other.latestPublishedDate);
+        }
+    }
+
+    /**
+     * 작업 하나가 사용하는 기준점과, 실행 중에 관찰한 다음 기준점 후보
+     */
+    public static class JobWatermarks {
+        private final Long userId;
+        private final Map<String, Watermark> known;
+        private final Map<String, Watermark> candidates = new ConcurrentHashMap<>();
+        private final Set<String> completedStreams = ConcurrentHashMap.newKeySet();
+
+        JobWatermarks(Long userId, Map<String, Watermark> known) {
+            this.userId = userId;
+            this.known = known;
+        }
+
+        /**
+         * 이미 수집한 범위에 들어온 기사인지 확인합니다.
+         */
+        public boolean reached(String source, String keyword, News news) {
+            Watermark watermark = known.get(key(source, keyword));
+            return watermark != null && watermark.covers(news);
+        }
+
+        // 새로 수집한 기사 중 가장 최신 기사를 다음 기준점 후보로 기억
+        public void observe(String source, String keyword, News news) {
+            Watermark seen = new Watermark(news.getPublishedDate(), news.getContentHash());
+            candidates.merge(key(source, keyword), seen, (current, next) -> next.isNewerThan(current) ? next : current);
+        }
+
+        // 출처 목록을 오류 없이 끝까지(또는 기준점까지) 읽음 - 이 출처의 후보만 기준점으로 기록
+        public void streamCompleted(String source, String keyword) {
+            completedStreams.add(key(source, keyword));
+        }
+    }
+}
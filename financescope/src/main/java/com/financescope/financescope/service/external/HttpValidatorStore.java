@@ -0,0 +1,128 @@
+package com.financescope.financescope.service.external;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * URL별 HTTP 캐시 검증자 저장소
+ *
+ * 직전 응답의 ETag, Last-Modified, 본문 해시를 기억해 두었다가 같은 URL을 다시 수집할 때
+ * If-None-Match / If-Modified-Since 조건부 요청을 보내고, 내용이 그대로면 파싱을 건너뛸 수 있게 합니다.
+ * 검증자는 사용자와 요청 형태(최대 결과 수)별로 따로 두고, 그 응답에서 나온 기사가 모두 저장된 뒤에만
+ * 기록하므로 실패하거나 취소된 작업의 응답은 다음 실행에서 다시 파싱됩니다.
+ * 가장 오래 사용되지 않은 키부터 밀려나는 LRU 방식으로 크기를 제한합니다.
+ */
+@Component
+@Slf4j
+public class HttpValidatorStore {
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final Map<String, Validators> validators;
+
+    public HttpValidatorStore(@Value("${app.crawling.validator-cache.max-entries:5000}") int maxEntries) {
+        this.validators = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validators> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 작업 하나에서 쓸 검증자 범위를 엽니다. 같은 사용자라도 최대 결과 수가 다르면 파싱 결과가 달라지므로 따로 기록합니다.
+     */
+    public JobValidators open(Long userId, Integer maxResults) {
+        return new JobValidators((userId != null ? userId : "-") + KEY_SEPARATOR + maxResults + KEY_SEPARATOR);
+    }
+
+    /**
+     * 이 작업 범위에서 마지막으로 기록된 검증자 (조건부 요청 헤더용)
+     */
+    public synchronized Validators get(JobValidators job, String url) {
+        return validators.get(job.key(url));
+    }
+
+    /**
+     * 새 응답의 검증자를 후보로 기억하고, 본문이 기록된 응답과 달라졌는지 반환합니다.
+     * 후보는 응답을 끝까지 처리하고(streamCompleted) 키워드 결과가 저장된 뒤 commit 에서 기록됩니다.
+     */
+    public boolean observe(JobValidators job, String keyword, String url, String etag, String lastModified, String body) {
+        Validators fresh = new Validators(etag, lastModified, hash(body));
+        Validators previous = get(job, url);
+        boolean changed = previous == null || !Arrays.equals(previous.bodyHash(), fresh.bodyHash());
+
+        if (!changed) {
+            log.debug("본문 변경 없음, 파싱 생략 - URL: {}", url);
+            return false;
+        }
+        job.candidates.put(url, new Candidate(keyword, fresh));
+        return true;
+    }
+
+    /**
+     * 키워드 결과가 모두 저장된 뒤 호출되어, 끝까지 처리한 응답의 검증자를 기록합니다.
+     */
+    public void commit(JobValidators job, String keyword) {
+        for (Map.Entry<String, Candidate> entry : job.candidates.entrySet()) {
+            String url = entry.getKey();
+            if (!keyword.equals(entry.getValue().keyword()) || !job.completedStreams.contains(url)) {
+                continue;
+            }
+            synchronized (this) {
+                validators.put(job.key(url), entry.getValue().validators());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return validators.size();
+    }
+
+    private byte[] hash(String body) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return md.digest(body.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.error("본문 해시 생성 실패: {}", e.getMessage());
+            return new byte[0];
+        }
+    }
+
+    public record Validators(String etag, String lastModified, byte[] bodyHash) {
+    }
+
+    private record Candidate(String keyword, Validators validators) {
+    }
+
+    /**
+     * 작업 하나의 검증자 범위와, 실행 중에 받은 응답의 검증자 후보
+     */
+    public static class JobValidators {
+        private final String scope;
+        private final Map<String, Candidate> candidates = new ConcurrentHashMap<>();
+        private final Set<String> completedStreams = ConcurrentHashMap.newKeySet();
+
+        JobValidators(String scope) {
+            this.scope = scope;
+        }
+
+        // 응답에서 나온 기사를 오류 / 취소 없이 끝까지 내보냄 - 이 응답의 후보만 기록 대상
+        public void streamCompleted(String url) {
+            completedStreams.add(url);
+        }
+
+        private String key(String url) {
+            return scope + url;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.entity.News;
+import com.financescope.financescope.repository.NewsBatchWriter;
+import com.financescope.financescope.repository.NewsRepository;
+import com.financescope.financescope.util.SimHash;
+import com.financescope.financescope.util.SimHashIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수집 시점 근사 중복(같은 기사의 언론사별 재배포) 판별기
+ *
+ * 저장 전에 제목 + 본문으로 SimHash 지문을 만들고, 저장 후에는 최근 대표 기사 지문을 담은
+ * 밴드 인덱스에서 가까운 기사를 찾아 canonical_news_id 로 연결합니다.
+ * 대표 기사만 인덱스에 넣으므로 연결은 항상 최초 기사를 가리키고, 요약 / 감성 분석 / 지표 집계는
+ * 대표 기사 기준으로 한 번만 처리할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearDuplicateDetector {
+
+    private final NewsRepository newsRepository;
+    private final NewsBatchWriter newsBatchWriter;
+
+    @Value("${app.news.near-duplicate.enabled:true}")
+    private boolean enabled;
+
+    // 같은 기사로 볼 최대 해밍 거리 (64비트 중, bands - 1 이하)
+    @Value("${app.news.near-duplicate.max-distance:7}")
+    private int maxDistance;
+
+    // 인덱스 밴드 수 (4, 8, 16)
+    @Value("${app.news.near-duplicate.bands:8}")
+    private int bands;
+
+    // 인덱스에 유지할 최근 대표 기사 수
+    @Value("${app.news.near-duplicate.index-capacity:200000}")
+    private int indexCapacity;
+
+    @Value("${app.news.near-duplicate.title-weight:1}")
+    private int titleWeight;
+
+    // 이보다 짧은 텍스트는 지문을 만들지 않음 (짧은 제목끼리의 오탐 방지)
+    @Value("${app.news.near-duplicate.min-shingles:16}")
+    private int minShingles;
+
+    private SimHashIndex index;
+
+    private final AtomicLong linked = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        index = new SimHashIndex(maxDistance, bands, indexCapacity);
+    }
+
+    /**
+     * 최근 대표 기사 지문으로 인덱스를 채웁니다. (오래된 것부터 넣어 용량 초과 시 오래된 것이 밀려나게 함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Object[]> rows = new ArrayList<>();
+            long beforeId = Long.MAX_VALUE;
+            while (rows.size() < indexCapacity) {
+                List<Object[]> page = newsRepository.findCanonicalSimHashesBefore(beforeId,
+                        PageRequest.of(0, Math.min(5000, indexCapacity - rows.size())));
+                if (page.isEmpty()) {
+                    break;
+                }
+                rows.addAll(page);
+                beforeId = (Long) page.get(page.size() - 1)[0];
+            }
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                index.add((Long) rows.get(i)[0], (Long) rows.get(i)[1]);
+            }
+            log.info("근사 중복 인덱스 적재 완료 - {}개", index.size());
+        } catch (Exception e) {
+            log.warn("근사 중복 인덱스 적재 실패, 새로 저장되는 기사부터 판별: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 전 호출 - 각 뉴스에 SimHash 지문을 채웁니다.
+     */
+    public void fingerprint(List<News> newsList) {
+        if (!enabled) {
+            return;
+        }
+        for (News news : newsList) {
+            if (news.getSimhash() == null) {
+                String body = news.getContent() != null ? news.getContent() : news.getSummary();
+                news.setSimhash(SimHash.fingerprint(news.getTitle(), body, titleWeight, minShingles));
+            }
+        }
+    }
+
+    /**
+     * 저장 후 호출 - 인덱스에서 같은 기사를 찾아 대표 기사로 연결하고, 새 기사는 대표로 등록합니다.
+     * 연결 실패는 로그만 남깁니다. (중복으로 남을 뿐 수집 결과에는 영향 없음)
+     */
+    public void link(List<News> stored) {
+        if (!enabled || stored.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Long> fingerprints = new LinkedHashMap<>();
+            for (News news : stored) {
+                if (news.getSimhash() != null) {
+                    fingerprints.put(news.getContentHash(), news.getSimhash());
+                }
+            }
+            if (fingerprints.isEmpty()) {
+                return;
+            }
+
+            Map<String, Long> ids = new HashMap<>();
+            for (Object[] row : newsRepository.findIdsByContentHashes(fingerprints.keySet())) {
+                ids.put((String) row[1], (Long) row[0]);
+            }
+
+            // 같은 청크 안의 중복도 찾을 수 있도록 저장 순서대로 조회 → 등록
+            Map<Long, Long> canonicalIds = new LinkedHashMap<>();
+            for (Map.Entry<String, Long> entry : fingerprints.entrySet()) {
+                Long id = ids.get(entry.getKey());
+                if (id == null) {
+                    continue;
+                }
+                // 다른 청크가 같은 기사를 동시에 등록하지 않도록 조회와 등록을 한 번에
+                long canonicalId = index.findOrAdd(id, entry.getValue());
+                if (canonicalId != id) {
+                    canonicalIds.put(id, canonicalId);
+                }
+            }
+
+            newsBatchWriter.updateCanonicalIds(canonicalIds);
+            if (!canonicalIds.isEmpty()) {
+                linked.addAndGet(canonicalIds.size());
+                log.debug("근사 중복 연결 - {}개 (저장 {}개 중)", canonicalIds.size(), stored.size());
+            }
+        } catch (Exception e) {
+            log.warn("근사 중복 연결 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "enabled", enabled,
+                "indexed", index.size(),
+                "linked", linked.get());
+    }
+}
@@ -1,27 +1,61 @@
 package com.financescope.financescope.service.external;
 
+import com.financescope.financescope.dto.news.NaverSearchDTO;
 import com.financescope.financescope.dto.news.NewsDTO;
 import com.financescope.financescope.entity.News;
 import com.financescope.financescope.entity.User;
+import com.financescope.financescope.repository.NewsBatchWriter;
 import com.financescope.financescope.repository.NewsRepository;
+import com.financescope.financescope.repository.UserRepository;
+import com.financescope.financescope.service.JobEventService;
+import com.financescope.financescope.util.CircuitBreaker;
+import com.financescope.financescope.util.HtmlText;
+import com.financescope.financescope.util.JobRegistry;
+import com.financescope.financescope.util.RssStreamParser;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.StringReader;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -29,7 +63,27 @@ import java.util.concurrent.ConcurrentHashMap;
 public class NewsCrawlerService {
 
     private final NewsRepository newsRepository;
-    private final WebClient.Builder webClientBuilder;
+    @Qualifier("newsCrawlerWebClient")
+    private final WebClient newsCrawlerWebClient;
+    @Qualifier("naverSearchWebClient")
+    private final WebClient naverSearchWebClient;
+    @Qualifier("googleNewsWebClient")
+    private final WebClient googleNewsWebClient;
+    private final CrawlRateLimiter crawlRateLimiter;
+    private final CrawlConcurrencyLimiter crawlConcurrencyLimiter;
+    private final CrawlCircuitBreakers crawlCircuitBreakers;
+    private final HttpValidatorStore httpValidatorStore;
+    private final NewsBatchWriter newsBatchWriter;
+    private final NewsDedupFilter newsDedupFilter;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final CrawlCheckpointStore crawlCheckpointStore;
+    private final CrawlWatermarkStore crawlWatermarkStore;
+    private final UserRepository userRepository;
+    private final JobEventService jobEventService;
+    private final CrawlJobScheduler crawlJobScheduler;
+    private final CrawlTaskQueue crawlTaskQueue;
+    @Qualifier("taskExecutor")
+    private final Executor taskExecutor;
     
     @Value("${external-api.news.naver.client-id:}")
     private String naverClientId;
@@ -37,89 +91,359 @@ public class NewsCrawlerService {
     @Value("${external-api.news.naver.client-secret:}")
     private String naverClientSecret;
     
+    // 수집 대상 주소 (부하 테스트에서는 로컬 대역 서버로 바꿔 사용)
+    @Value("${external-api.news.naver.base-url:https://openapi.naver.com}")
+    private String naverApiBaseUrl;
+    
+    @Value("${external-api.news.naver-search.base-url:https://search.naver.com}")
+    private String naverSearchBaseUrl;
+    
+    @Value("${external-api.news.google.base-url:https://news.google.com}")
+    private String googleNewsBaseUrl;
+    
     @Value("${app.crawling.max-concurrent-requests:10}")
     private int maxConcurrentRequests;
     
-    @Value("${app.crawling.request-delay:1000}")
-    private long requestDelay;
+    // reactive: 논블로킹 Flux 파이프라인, parallel: 키워드별 가상 스레드 동시 크롤링, sequential: 키워드 순차 크롤링
+    @Value("${app.crawling.mode:reactive}")
+    private String crawlMode;
+    
+    @Value("${app.crawling.save-batch-size:50}")
+    private int saveBatchSize;
+    
+    @Value("${app.crawling.jobs.max-entries:1000}")
+    private int maxJobEntries;
+    
+    @Value("${app.crawling.jobs.ttl:3600000}")
+    private long finishedJobTtl;
+    
+    // 분산 실행 시 이 인스턴스가 동시에 임대해 실행할 키워드 작업 수
+    @Value("${app.crawling.distributed.max-running-tasks:8}")
+    private int maxRunningTasks;
+    
+    // 한 번에 요청할 네이버 API 페이지 수 (요청 속도는 호스트별 속도 제한을 따름)
+    @Value("${app.crawling.naver-api.page-concurrency:4}")
+    private int naverApiPageConcurrency;
+    
+    // 네이버 검색 API 제한: display 최대 100, start 최대 1000
+    private static final int NAVER_API_MAX_DISPLAY = 100;
+    private static final int NAVER_API_MAX_RESULTS = 1000;
     
-    @Value("${app.crawling.user-agent:FinanceScope-Bot/1.0}")
-    private String userAgent;
+    // 네이버 API 날짜 형식: "Mon, dd MMM yyyy HH:mm:ss +0900"
+    private static final DateTimeFormatter NAVER_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
     
-    // 진행 중인 크롤링 작업 상태 관리
-    private final Map<String, CrawlingJobStatus> crawlingJobs = new ConcurrentHashMap<>();
+    // 작업 이벤트 단계
+    private static final String STAGE_CRAWLING = "crawling";
+    private static final String STAGE_SAVING = "saving";
+    private static final String STAGE_FINISHED = "finished";
+    
+    // 진행 중인 크롤링 작업 상태 관리 (상한 + 종료 후 TTL 만료)
+    private JobRegistry<CrawlingJobStatus> crawlingJobs;
+    
+    // 분산 실행 시 이 인스턴스가 임대해 실행 중인 키워드 작업 (taskId 기준)
+    private final Map<Long, CrawlingJobStatus> runningTasks = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    public void init() {
+        crawlingJobs = new JobRegistry<>(maxJobEntries, Duration.ofMillis(finishedJobTtl));
+    }
 
+    /**
+     * 작업을 등록하고 사용자별 대기열에 넣습니다. 실행은 CrawlJobScheduler 가 차례가 되면 시작합니다.
+     * user 가 null 이면 소유자 없는 작업으로 실행됩니다. (/api/crawl 익명 요청)
+     * 분산 실행이 켜져 있으면 DB 대기열에 키워드별로 나눠 넣고, 어느 인스턴스든 임대를 잡은 곳에서 실행됩니다.
+     */
     public void startCrawling(String jobId, NewsDTO.CrawlRequest request, User user) {
-        log.info("크롤링 작업 시작 - JobID: {}, 사용자: {}", jobId, user.getEmail());
+        Long userId = user != null ? user.getId() : null;
+        log.info("크롤링 작업 등록 - JobID: {}, 사용자: {}", jobId, user != null ? user.getEmail() : "익명");
+        
+        if (crawlTaskQueue.isEnabled()) {
+            crawlTaskQueue.enqueue(jobId, userId,
+                    crawlJobScheduler.weightOf(user != null ? user.getSubscriptionPlan() : null), request);
+            jobEventService.register(jobId, JobEventService.TYPE_CRAWL, userId);
+            jobEventService.publish(jobId, CrawlTaskQueue.QUEUED, STAGE_CRAWLING, 0, "실행 대기 중");
+            return;
+        }
         
         CrawlingJobStatus jobStatus = new CrawlingJobStatus();
         jobStatus.setJobId(jobId);
-        jobStatus.setUser(user);
+        jobStatus.setUserId(userId);
+        jobStatus.setCollector(user);
         jobStatus.setRequest(request);
-        jobStatus.setStatus("RUNNING");
+        jobStatus.setStatus("QUEUED");
         jobStatus.setStartTime(LocalDateTime.now());
         jobStatus.setProgress(0);
-        jobStatus.setMessage("크롤링 시작");
+        jobStatus.setMessage("실행 대기 중");
         
-        crawlingJobs.put(jobId, jobStatus);
+        try {
+            crawlingJobs.register(jobId, jobStatus);
+        } catch (IllegalStateException e) {
+            throw new RuntimeException("동시에 실행할 수 있는 크롤링 작업 수를 초과했습니다.", e);
+        }
+        crawlCheckpointStore.jobStarted(jobId, userId, request);
+        jobEventService.register(jobId, JobEventService.TYPE_CRAWL, userId);
+        publishJobEvent(jobStatus, STAGE_CRAWLING);
         
-        // 비동기로 크롤링 실행
-        executeCrawlingAsync(jobStatus);
+        submitJob(jobStatus, user != null ? user.getSubscriptionPlan() : null);
+    }
+    
+    /**
+     * 서버 재시작 전에 끝나지 못한 작업을 마지막으로 완료된 키워드 다음부터 이어서 실행합니다.
+     * 이 인스턴스가 실행하던 작업과 하트비트가 끊긴 작업만 재개합니다. (다른 인스턴스에서 실행 중인 작업 제외)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        resumeJobs(true);
+    }
+    
+    /**
+     * 실행 중인 작업의 하트비트를 기록하고, 하트비트가 끊긴 다른 인스턴스의 작업을 이어받습니다.
+     */
+    @Scheduled(initialDelayString = "${app.crawling.checkpoint.heartbeat-interval:30000}",
+            fixedDelayString = "${app.crawling.checkpoint.heartbeat-interval:30000}")
+    public void heartbeat() {
+        if (crawlTaskQueue.isEnabled()) {
+            return;
+        }
+        crawlCheckpointStore.heartbeat(crawlingJobs.runningJobIds());
+        resumeJobs(false);
+    }
+    
+    private void resumeJobs(boolean includeOwn) {
+        // 분산 실행에서는 만료된 임대를 다른 인스턴스가 이어받음
+        if (crawlTaskQueue.isEnabled()) {
+            return;
+        }
+        Set<String> running = new HashSet<>(crawlingJobs.runningJobIds());
+        for (CrawlCheckpointStore.InterruptedJob interrupted : crawlCheckpointStore.findInterruptedJobs(includeOwn)) {
+            if (running.contains(interrupted.jobId())) {
+                continue; // 하트비트 기록이 밀렸을 뿐 이 인스턴스에서 실행 중
+            }
+            log.info("중단된 크롤링 작업 재개 - JobID: {}, 완료 키워드: {}개, 남은 키워드: {}개",
+                    interrupted.jobId(), interrupted.completedKeywords(), interrupted.remainingRequest().getKeywords().size());
+            
+            User collector = interrupted.userId() != null ? userRepository.findById(interrupted.userId()).orElse(null) : null;
+            
+            CrawlingJobStatus jobStatus = new CrawlingJobStatus();
+            jobStatus.setJobId(interrupted.jobId());
+            jobStatus.setUserId(interrupted.userId());
+            jobStatus.setCollector(collector);
+            jobStatus.setRequest(interrupted.remainingRequest());
+            jobStatus.setStatus("QUEUED");
+            jobStatus.setStartTime(LocalDateTime.now());
+            jobStatus.setProgress(0);
+            jobStatus.setMessage("중단된 작업 재개 대기 중");
+            
+            try {
+                crawlingJobs.register(interrupted.jobId(), jobStatus);
+            } catch (IllegalStateException e) {
+                log.warn("작업 상한으로 재개하지 못함 - JobID: {}", interrupted.jobId());
+                continue;
+            }
+            jobEventService.register(interrupted.jobId(), JobEventService.TYPE_CRAWL, interrupted.userId());
+            publishJobEvent(jobStatus, STAGE_CRAWLING);
+            try {
+                submitJob(jobStatus, collector != null ? collector.getSubscriptionPlan() : null);
+            } catch (RuntimeException e) {
+                log.warn("대기열이 가득 차 재개하지 못함 - JobID: {}", interrupted.jobId());
+            }
+        }
+    }
+    
+    /**
+     * 종료 후 TTL 이 지난 작업 상태를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.crawling.jobs.sweep-interval:60000}")
+    public void evictExpiredJobs() {
+        int evicted = crawlingJobs.evictExpired();
+        if (evicted > 0) {
+            log.debug("만료된 크롤링 작업 정리: {}개 (남은 작업: {}개)", evicted, crawlingJobs.size());
+        }
     }
     
-    @Async
-    public void executeCrawlingAsync(CrawlingJobStatus jobStatus) {
+    // 대기열이 가득 차 등록하지 못한 작업은 실패로 종료
+    private void submitJob(CrawlingJobStatus jobStatus, User.SubscriptionPlan plan) {
         try {
-            List<News> collectedNews = new ArrayList<>();
+            crawlJobScheduler.submit(jobStatus.getJobId(), jobStatus.getUserId(), plan,
+                    () -> executeCrawlingAsync(jobStatus));
+        } catch (RuntimeException e) {
+            failJob(jobStatus, e);
+            jobStatus.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * 차례가 된 작업을 비동기로 실행합니다. (CrawlJobScheduler 가 호출)
+     * reactive 모드는 파이프라인을 구독만 하고, 그 외 모드는 taskExecutor 에 FutureTask 로 제출하여
+     * 취소 시 구독 해제 / 인터럽트로 실행 중인 작업을 중단할 수 있게 합니다.
+     * 어느 경우든 작업이 끝나면 대기열에 종료를 알려 다음 작업이 시작되게 합니다.
+     */
+    private void executeCrawlingAsync(CrawlingJobStatus jobStatus) {
+        String jobId = jobStatus.getJobId();
+        // 대기 중에 취소된 작업
+        if (!jobStatus.begin()) {
+            crawlJobScheduler.finished(jobId);
+            return;
+        }
+        publishJobEvent(jobStatus, STAGE_CRAWLING);
+        
+        try {
+            // 키워드별 증분 수집 기준점은 작업 시작 시 한 번에 읽어 둠 (이벤트 루프에서 DB 조회 방지)
+            jobStatus.setWatermarks(crawlWatermarkStore.open(jobStatus.getUserId(), jobStatus.getRequest().getKeywords()));
+            jobStatus.setValidators(httpValidatorStore.open(jobStatus.getUserId(), jobStatus.getRequest().getMaxResults()));
             
-            for (String keyword : jobStatus.getRequest().getKeywords()) {
-                log.info("키워드 '{}' 크롤링 시작", keyword);
-                
-                jobStatus.setMessage("키워드 '" + keyword + "' 크롤링 중");
-                updateProgress(jobStatus);
-                
-                List<News> keywordNews = crawlNewsByKeyword(keyword, jobStatus);
-                collectedNews.addAll(keywordNews);
-                
-                // 요청 간 지연
-                Thread.sleep(requestDelay);
+            if ("reactive".equalsIgnoreCase(crawlMode)) {
+                executeReactiveCrawling(jobStatus);
+                return;
             }
             
-            // 중복 제거
-            collectedNews = removeDuplicates(collectedNews);
+            // 실행 전에 취소되어 실행되지 않아도 done() 은 호출됨
+            FutureTask<Void> task = new FutureTask<>(() -> executeBlockingCrawling(jobStatus), null) {
+                @Override
+                protected void done() {
+                    crawlJobScheduler.finished(jobId);
+                }
+            };
+            jobStatus.setTask(task);
+            taskExecutor.execute(task);
+        } catch (RuntimeException e) {
+            failJob(jobStatus, e);
+            jobStatus.release();
+            crawlJobScheduler.finished(jobId);
+        }
+    }
+    
+    private void executeBlockingCrawling(CrawlingJobStatus jobStatus) {
+        try {
+            NewsChunkBuffer chunkBuffer = new NewsChunkBuffer(jobStatus, new KeywordCheckpointTracker(jobStatus));
             
-            // 데이터베이스 저장
-            jobStatus.setMessage("뉴스 데이터 저장 중");
-            saveNewsToDatabase(collectedNews, jobStatus);
+            if ("parallel".equalsIgnoreCase(crawlMode)) {
+                crawlKeywordsInParallel(jobStatus, chunkBuffer);
+            } else {
+                crawlKeywordsSequentially(jobStatus, chunkBuffer);
+            }
             
-            // 작업 완료
-            jobStatus.setStatus("COMPLETED");
-            jobStatus.setMessage("크롤링 완료: " + collectedNews.size() + "개 뉴스 수집");
-            jobStatus.setProgress(100);
-            jobStatus.setNewsCount(collectedNews.size());
-            jobStatus.setEndTime(LocalDateTime.now());
+            // 남은 청크 저장
+            jobStatus.setMessage("뉴스 데이터 저장 중");
+            publishJobEvent(jobStatus, STAGE_SAVING);
+            int savedCount = chunkBuffer.flush();
             
-            log.info("크롤링 작업 완료 - JobID: {}, 수집된 뉴스: {}개", 
-                    jobStatus.getJobId(), collectedNews.size());
+            completeJob(jobStatus, savedCount);
             
         } catch (Exception e) {
-            log.error("크롤링 작업 실패 - JobID: {}, 오류: {}", jobStatus.getJobId(), e.getMessage());
-            
-            jobStatus.setStatus("FAILED");
-            jobStatus.setMessage("크롤링 실패: " + e.getMessage());
-            jobStatus.setError(e.getMessage());
-            jobStatus.setEndTime(LocalDateTime.now());
+            if (jobStatus.isCancelled()) {
+                log.info("취소된 크롤링 작업 중단 - JobID: {}", jobStatus.getJobId());
+            } else {
+                failJob(jobStatus, e);
+            }
+        } finally {
+            jobStatus.release();
         }
     }
     
+    /**
+     * 키워드 → 수집 → 파싱 → 중복 제거 → 청크 저장을 하나의 Flux 파이프라인으로 실행합니다.
+     * 수집은 max-concurrent-requests 만큼만 동시에 진행되고, 저장 단계는 한 청크씩
+     * boundedElastic 스케줄러에서 처리되어 앞 단계로 배압을 전달합니다.
+     * 호출 스레드는 구독 직후 반환되므로 작업 실행기 스레드를 점유하지 않습니다.
+     */
+    private void executeReactiveCrawling(CrawlingJobStatus jobStatus) {
+        Mono<Integer> pipeline = crawlAndSave(jobStatus)
+                .doOnCancel(() -> log.info("취소된 크롤링 작업 구독 해제 - JobID: {}", jobStatus.getJobId()))
+                .doFinally(signal -> {
+                    jobStatus.release();
+                    crawlJobScheduler.finished(jobStatus.getJobId());
+                });
+        
+        Disposable subscription = pipeline.subscribe(
+                savedCount -> completeJob(jobStatus, savedCount),
+                error -> failJob(jobStatus, error));
+        jobStatus.setSubscription(subscription);
+        
+        // 구독 직전에 취소된 경우
+        if (jobStatus.isCancelled()) {
+            subscription.dispose();
+        }
+    }
+    
+    // 요청의 키워드들을 수집해 저장하고 새로 저장된 건수를 내보내는 파이프라인 (구독 전까지는 실행되지 않음)
+    private Mono<Integer> crawlAndSave(CrawlingJobStatus jobStatus) {
+        List<String> keywords = jobStatus.getRequest().getKeywords();
+        AtomicInteger completedKeywords = new AtomicInteger();
+        KeywordCheckpointTracker tracker = new KeywordCheckpointTracker(jobStatus);
+        Set<String> seenHashes = ConcurrentHashMap.newKeySet();
+        
+        return Flux.fromIterable(keywords)
+                .flatMap(keyword -> crawlNewsByKeywordReactive(keyword, jobStatus)
+                                .doOnNext(tracker::queued)
+                                .doFinally(signal -> {
+                                    updateParallelProgress(jobStatus, keyword, completedKeywords.incrementAndGet(), keywords.size());
+                                    if (signal != SignalType.CANCEL) {
+                                        tracker.fetched(keyword);
+                                    }
+                                }),
+                        Math.max(1, maxConcurrentRequests))
+                .filter(news -> seenHashes.add(news.getContentHash()) || tracker.dropped(news))
+                .buffer(Math.max(1, saveBatchSize))
+                .concatMap(chunk -> Mono.fromCallable(() -> {
+                                    int inserted = saveNewsToDatabase(chunk, jobStatus);
+                                    tracker.saved(chunk);
+                                    return inserted;
+                                })
+                        .subscribeOn(Schedulers.boundedElastic()), 1)
+                .reduce(0, Integer::sum);
+    }
+    
+    private void completeJob(CrawlingJobStatus jobStatus, int newsCount) {
+        // 이미 취소된 작업은 COMPLETED 로 덮어쓰지 않음
+        if (!jobStatus.finish("COMPLETED")) {
+            return;
+        }
+        jobStatus.setMessage("크롤링 완료: " + newsCount + "개 뉴스 수집");
+        jobStatus.setProgress(100);
+        jobStatus.setNewsCount(newsCount);
+        crawlCheckpointStore.jobFinished(jobStatus.getJobId(), "COMPLETED", newsCount);
+        publishJobEvent(jobStatus, STAGE_FINISHED);
+        
+        log.info("크롤링 작업 완료 - JobID: {}, 수집된 뉴스: {}개", jobStatus.getJobId(), newsCount);
+    }
+    
+    private void failJob(CrawlingJobStatus jobStatus, Throwable e) {
+        if (!jobStatus.finish("FAILED")) {
+            return;
+        }
+        log.error("크롤링 작업 실패 - JobID: {}, 오류: {}", jobStatus.getJobId(), e.getMessage());
+        
+        jobStatus.setMessage("크롤링 실패: " + e.getMessage());
+        jobStatus.setError(e.getMessage());
+        crawlCheckpointStore.jobFinished(jobStatus.getJobId(), "FAILED", jobStatus.getNewsCount());
+        publishJobEvent(jobStatus, STAGE_FINISHED);
+    }
+    
     public NewsDTO.CrawlStatusResponse getCrawlingStatus(String jobId, User user) {
         CrawlingJobStatus jobStatus = crawlingJobs.get(jobId);
         
+        if (jobStatus == null && crawlTaskQueue.isEnabled()) {
+            CrawlTaskQueue.JobSnapshot snapshot = findDistributedJob(jobId, user);
+            return NewsDTO.CrawlStatusResponse.builder()
+                    .jobId(jobId)
+                    .status(snapshot.status())
+                    .progress(snapshot.progress())
+                    .message(snapshot.message())
+                    .newsCount(snapshot.newsCount())
+                    .completed(snapshot.isFinished())
+                    .error(snapshot.error())
+                    .build();
+        }
+        
         if (jobStatus == null) {
             throw new RuntimeException("크롤링 작업을 찾을 수 없습니다: " + jobId);
         }
         
-        if (!jobStatus.getUser().equals(user)) {
+        // 익명 작업(user 없음)은 익명 요청에서만 조회 / 취소 가능
+        if (!Objects.equals(jobStatus.getUserId(), user != null ? user.getId() : null)) {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
@@ -129,7 +453,7 @@ public class NewsCrawlerService {
                 .progress(jobStatus.getProgress())
                 .message(jobStatus.getMessage())
                 .newsCount(jobStatus.getNewsCount())
-                .completed("COMPLETED".equals(jobStatus.getStatus()) || "FAILED".equals(jobStatus.getStatus()))
+                .completed(jobStatus.isFinished())
                 .error(jobStatus.getError())
                 .build();
     }
@@ -137,158 +461,556 @@ public class NewsCrawlerService {
     public void cancelCrawling(String jobId, User user) {
         CrawlingJobStatus jobStatus = crawlingJobs.get(jobId);
         
+        if (jobStatus == null && crawlTaskQueue.isEnabled()) {
+            cancelDistributedJob(jobId, user);
+            return;
+        }
+        
         if (jobStatus == null) {
             throw new RuntimeException("크롤링 작업을 찾을 수 없습니다: " + jobId);
         }
         
-        if (!jobStatus.getUser().equals(user)) {
+        if (!Objects.equals(jobStatus.getUserId(), user != null ? user.getId() : null)) {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
-        jobStatus.setStatus("CANCELLED");
+        if (!jobStatus.finish("CANCELLED")) {
+            throw new RuntimeException("이미 종료된 크롤링 작업입니다: " + jobId);
+        }
         jobStatus.setMessage("사용자에 의해 취소됨");
-        jobStatus.setEndTime(LocalDateTime.now());
         
-        log.info("크롤링 작업 취소 - JobID: {}", jobId);
+        // 시작 전이면 대기열에서 빼고 상태만 정리
+        if (crawlJobScheduler.remove(jobId)) {
+            jobStatus.release();
+        }
+        
+        // 실행 중인 수집 중단: 리액티브 구독 해제(진행 중인 요청과 커넥션 반환) 또는 작업 스레드 인터럽트
+        Disposable subscription = jobStatus.getSubscription();
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        Future<?> task = jobStatus.getTask();
+        if (task != null) {
+            task.cancel(true);
+        }
+        
+        crawlCheckpointStore.jobFinished(jobId, "CANCELLED", jobStatus.getNewsCount());
+        publishJobEvent(jobStatus, STAGE_FINISHED);
+        
+        log.info("크롤링 작업 취소 - JobID: {}, 저장된 뉴스: {}개", jobId, jobStatus.getNewsCount());
     }
     
-    private List<News> crawlNewsByKeyword(String keyword, CrawlingJobStatus jobStatus) {
-        List<News> newsList = new ArrayList<>();
+    private CrawlTaskQueue.JobSnapshot findDistributedJob(String jobId, User user) {
+        CrawlTaskQueue.JobSnapshot snapshot = crawlTaskQueue.snapshot(jobId)
+                .orElseThrow(() -> new RuntimeException("크롤링 작업을 찾을 수 없습니다: " + jobId));
+        if (!Objects.equals(snapshot.userId(), user != null ? user.getId() : null)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+        return snapshot;
+    }
+    
+    private void cancelDistributedJob(String jobId, User user) {
+        findDistributedJob(jobId, user);
+        if (!crawlTaskQueue.cancel(jobId)) {
+            throw new RuntimeException("이미 종료된 크롤링 작업입니다: " + jobId);
+        }
+        
+        // 이 인스턴스에서 실행 중인 키워드는 바로 중단 (다른 인스턴스는 임대 연장에 실패하면서 중단)
+        runningTasks.values().stream()
+                .filter(taskStatus -> jobId.equals(taskStatus.getJobId()))
+                .forEach(this::stopCrawlTask);
+        jobEventService.publish(jobId, CrawlTaskQueue.CANCELLED, STAGE_FINISHED, null, "사용자에 의해 취소됨");
         
+        log.info("분산 크롤링 작업 취소 - JobID: {}", jobId);
+    }
+    
+    /**
+     * 분산 실행: 빈 자리만큼 DB 대기열에서 키워드 작업을 임대해 실행합니다.
+     * 키워드 작업은 실행 모드와 관계없이 리액티브 파이프라인으로 수집 / 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.crawling.distributed.poll-interval:1000}")
+    public void pollCrawlTasks() {
+        if (!crawlTaskQueue.isEnabled()) {
+            return;
+        }
+        int free = maxRunningTasks - runningTasks.size();
+        if (free <= 0) {
+            return;
+        }
+        
+        List<CrawlTaskQueue.ClaimedTask> claimed;
         try {
-            switch (jobStatus.getRequest().getSource().toLowerCase()) {
-                case "네이버":
-                case "naver":
-                    newsList = crawlNaverNews(keyword, jobStatus);
-                    break;
-                case "구글":
-                case "google":
-                    newsList = crawlGoogleNews(keyword, jobStatus);
-                    break;
-                default:
-                    log.warn("지원하지 않는 뉴스 소스: {}", jobStatus.getRequest().getSource());
-            }
+            claimed = crawlTaskQueue.claim(free);
         } catch (Exception e) {
-            log.error("키워드 '{}' 크롤링 실패: {}", keyword, e.getMessage());
+            log.warn("키워드 작업 임대 실패: {}", e.getMessage());
+            return;
+        }
+        for (CrawlTaskQueue.ClaimedTask task : claimed) {
+            try {
+                runCrawlTask(task);
+            } catch (RuntimeException e) {
+                // 임대는 만료되면 다른 인스턴스가 이어받음
+                runningTasks.remove(task.taskId());
+                log.error("키워드 작업 시작 실패 - JobID: {}, 키워드: {}, 오류: {}", task.jobId(), task.keyword(), e.getMessage());
+            }
         }
-        
-        return newsList;
     }
     
-    private List<News> crawlNaverNews(String keyword, CrawlingJobStatus jobStatus) throws Exception {
-        List<News> newsList = new ArrayList<>();
+    private void runCrawlTask(CrawlTaskQueue.ClaimedTask task) {
+        log.info("키워드 작업 시작 - JobID: {}, 키워드: '{}', 시도: {}", task.jobId(), task.keyword(), task.attempt());
         
-        if (naverClientId.isEmpty() || naverClientSecret.isEmpty()) {
-            // API 키가 없는 경우 웹 스크래핑 사용
-            return crawlNaverNewsWeb(keyword, jobStatus);
-        }
+        CrawlingJobStatus taskStatus = new CrawlingJobStatus();
+        taskStatus.setJobId(task.jobId());
+        taskStatus.setUserId(task.userId());
+        taskStatus.setCollector(task.userId() != null ? userRepository.findById(task.userId()).orElse(null) : null);
+        taskStatus.setRequest(task.request());
+        taskStatus.setStatus("RUNNING");
+        taskStatus.setKeywordTask(true);
+        taskStatus.setStartTime(LocalDateTime.now());
+        taskStatus.setWatermarks(crawlWatermarkStore.open(task.userId(), task.request().getKeywords()));
+        taskStatus.setValidators(httpValidatorStore.open(task.userId(), task.request().getMaxResults()));
+        runningTasks.put(task.taskId(), taskStatus);
         
-        // 네이버 API 사용
-        WebClient webClient = webClientBuilder.build();
+        // 임대 시간의 1/3 마다 연장하고, 연장에 실패하면(취소 / 다른 인스턴스가 인수) 수집을 멈춤
+        Duration renewInterval = Duration.ofMillis(Math.max(1, crawlTaskQueue.getLeaseDurationMillis() / 3));
+        Disposable heartbeat = Flux.interval(renewInterval)
+                .concatMap(tick -> Mono.fromCallable(() -> crawlTaskQueue.renew(task.taskId()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        // DB 오류는 다음 주기에 다시 시도 (그 사이 만료되면 다른 인스턴스가 인수)
+                        .onErrorReturn(true))
+                .filter(renewed -> !renewed)
+                .next()
+                .subscribe(lost -> {
+                    log.warn("키워드 작업 임대 상실로 중단 - JobID: {}, 키워드: '{}'", task.jobId(), task.keyword());
+                    stopCrawlTask(taskStatus);
+                });
         
-        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
-        String apiUrl = String.format("https://openapi.naver.com/v1/search/news.json?query=%s&display=%d&sort=%s",
-                encodedKeyword, 
-                Math.min(jobStatus.getRequest().getMaxResults(), 100),
-                "sim".equals(jobStatus.getRequest().getSortBy()) ? "sim" : "date");
+        Disposable subscription = crawlAndSave(taskStatus)
+                .publishOn(Schedulers.boundedElastic())
+                .doFinally(signal -> {
+                    heartbeat.dispose();
+                    runningTasks.remove(task.taskId());
+                    taskStatus.release();
+                })
+                .subscribe(
+                        savedCount -> finishCrawlTask(task, taskStatus, savedCount, null),
+                        error -> finishCrawlTask(task, taskStatus, taskStatus.getNewsCount(), error));
+        taskStatus.setSubscription(subscription);
         
+        if (taskStatus.isCancelled()) {
+            subscription.dispose();
+        }
+    }
+    
+    private void stopCrawlTask(CrawlingJobStatus taskStatus) {
+        taskStatus.finish("CANCELLED");
+        Disposable subscription = taskStatus.getSubscription();
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    // 키워드 작업 결과 기록 - 마지막 키워드였으면 작업 종료 이벤트까지 발행
+    private void finishCrawlTask(CrawlTaskQueue.ClaimedTask task, CrawlingJobStatus taskStatus, int savedCount, Throwable error) {
+        if (!taskStatus.finish(error == null ? "COMPLETED" : "FAILED")) {
+            return;
+        }
         try {
-            Map<String, Object> response = webClient.get()
-                    .uri(apiUrl)
-                    .header("X-Naver-Client-Id", naverClientId)
-                    .header("X-Naver-Client-Secret", naverClientSecret)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
+            Optional<CrawlTaskQueue.JobSnapshot> snapshot = error == null
+                    ? crawlTaskQueue.complete(task, savedCount)
+                    : crawlTaskQueue.fail(task, error.getMessage());
+            snapshot.ifPresent(job -> jobEventService.publish(job.jobId(), job.status(),
+                    job.isFinished() ? STAGE_FINISHED : STAGE_CRAWLING, job.progress(), job.message()));
+            log.info("키워드 작업 종료 - JobID: {}, 키워드: '{}', 저장: {}개", task.jobId(), task.keyword(), savedCount);
+        } catch (Exception e) {
+            // 기록하지 못한 작업은 임대가 만료되면 다시 실행됨
+            log.error("키워드 작업 결과 기록 실패 - JobID: {}, 키워드: '{}', 오류: {}", task.jobId(), task.keyword(), e.getMessage());
+        }
+    }
+    
+    private void crawlKeywordsSequentially(CrawlingJobStatus jobStatus, NewsChunkBuffer chunkBuffer) {
+        for (String keyword : jobStatus.getRequest().getKeywords()) {
+            if (jobStatus.isCancelled()) {
+                throw new CancellationException("크롤링 작업이 취소되었습니다.");
+            }
+            log.info("키워드 '{}' 크롤링 시작", keyword);
             
-            if (response != null && response.containsKey("items")) {
-                List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("items");
-                
-                for (Map<String, Object> item : items) {
-                    News news = createNewsFromNaverItem(item, keyword, jobStatus);
-                    if (news != null) {
-                        newsList.add(news);
+            jobStatus.setCurrentKeyword(keyword);
+            jobStatus.setMessage("키워드 '" + keyword + "' 크롤링 중");
+            updateProgress(jobStatus);
+            
+            chunkBuffer.addAll(keyword, crawlNewsByKeyword(keyword, jobStatus));
+        }
+    }
+    
+    /**
+     * 키워드별 크롤링을 가상 스레드에서 동시에 실행합니다.
+     * 동시 실행 수는 app.crawling.max-concurrent-requests 로 제한되며,
+     * 호스트별 요청 속도는 CrawlRateLimiter 가 조절합니다.
+     * 키워드가 끝나는 대로 결과를 청크 버퍼에 넘겨 저장합니다.
+     */
+    private void crawlKeywordsInParallel(CrawlingJobStatus jobStatus, NewsChunkBuffer chunkBuffer) throws InterruptedException {
+        List<String> keywords = jobStatus.getRequest().getKeywords();
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrentRequests));
+        AtomicInteger completedKeywords = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(keywords.size());
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String keyword : keywords) {
+                futures.add(executor.submit(() -> {
+                    List<News> keywordNews;
+                    permits.acquire();
+                    try {
+                        if (jobStatus.isCancelled()) {
+                            return null;
+                        }
+                        log.info("키워드 '{}' 크롤링 시작", keyword);
+                        keywordNews = crawlNewsByKeyword(keyword, jobStatus);
+                    } finally {
+                        permits.release();
+                        updateParallelProgress(jobStatus, keyword, completedKeywords.incrementAndGet(), keywords.size());
                     }
+                    chunkBuffer.addAll(keyword, keywordNews);
+                    return null;
+                }));
+            }
+            
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // 수집 실패는 키워드 단위로 처리되므로 여기까지 오는 것은 저장 실패
+                    executor.shutdownNow();
+                    throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+                } catch (InterruptedException e) {
+                    // 작업 취소: 대기 중인 키워드는 버리고 실행 중인 가상 스레드를 인터럽트
+                    executor.shutdownNow();
+                    throw e;
                 }
             }
+        }
+    }
+    
+    private List<News> crawlNewsByKeyword(String keyword, CrawlingJobStatus jobStatus) {
+        try {
+            List<News> newsList = crawlNewsByKeywordReactive(keyword, jobStatus).collectList().block();
+            return newsList != null ? newsList : new ArrayList<>();
         } catch (Exception e) {
-            log.error("네이버 API 호출 실패: {}", e.getMessage());
-            // API 실패 시 웹 스크래핑으로 대체
-            return crawlNaverNewsWeb(keyword, jobStatus);
+            log.error("키워드 '{}' 크롤링 실패: {}", keyword, e.getMessage());
+            return new ArrayList<>();
         }
+    }
+    
+    /**
+     * 키워드 하나에 대한 뉴스 수집 스트림 - 실패한 키워드는 로그만 남기고 빈 결과로 처리합니다.
+     */
+    private Flux<News> crawlNewsByKeywordReactive(String keyword, CrawlingJobStatus jobStatus) {
+        Flux<News> newsFlux;
         
-        return newsList;
+        switch (jobStatus.getRequest().getSource().toLowerCase()) {
+            case "네이버":
+            case "naver":
+                newsFlux = crawlNaverNews(keyword, jobStatus);
+                break;
+            case "구글":
+            case "google":
+                newsFlux = crawlGoogleNews(keyword, jobStatus);
+                break;
+            default:
+                log.warn("지원하지 않는 뉴스 소스: {}", jobStatus.getRequest().getSource());
+                return Flux.empty();
+        }
+        
+        return newsFlux.onErrorResume(e -> {
+            log.error("키워드 '{}' 크롤링 실패: {}", keyword, e.getMessage());
+            return Flux.empty();
+        });
     }
     
-    private List<News> crawlNaverNewsWeb(String keyword, CrawlingJobStatus jobStatus) throws Exception {
-        List<News> newsList = new ArrayList<>();
+    private Flux<News> crawlNaverNews(String keyword, CrawlingJobStatus jobStatus) {
+        if (naverClientId.isEmpty() || naverClientSecret.isEmpty()) {
+            // API 키가 없는 경우 웹 스크래핑 사용
+            return crawlNaverNewsWeb(keyword, jobStatus);
+        }
+        
+        // 회로가 열려 있으면 API 응답을 기다리지 않고 바로 웹 스크래핑으로 대체
+        if (!crawlCircuitBreakers.isCallPermitted(CrawlRateLimiter.NAVER_API_HOST)) {
+            log.debug("네이버 API 회로 차단 중, 웹 스크래핑으로 대체 - 키워드: {}", keyword);
+            return crawlNaverNewsWeb(keyword, jobStatus);
+        }
         
+        // 네이버 API 사용
         String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
-        String searchUrl = String.format("https://search.naver.com/search.naver?where=news&query=%s&sort=1", encodedKeyword);
+        String sort = "sim".equals(jobStatus.getRequest().getSortBy()) ? "sim" : "date";
+        int limit = Math.min(jobStatus.getRequest().getMaxResults(), NAVER_API_MAX_RESULTS);
+        int firstDisplay = Math.min(limit, NAVER_API_MAX_DISPLAY);
         
-        try {
-            Document doc = Jsoup.connect(searchUrl)
-                    .userAgent(userAgent)
-                    .timeout(10000)
-                    .get();
-            
-            Elements newsElements = doc.select(".list_news .bx");
+        Duration hedgeDelay = crawlCircuitBreakers.hedgeDelay(CrawlRateLimiter.NAVER_API_HOST);
+        if (hedgeDelay == null) {
+            return crawlNaverApi(encodedKeyword, sort, limit, firstDisplay, keyword, jobStatus, () -> { });
+        }
+        
+        return Flux.defer(() -> {
+            // 헤지 시계는 첫 페이지 요청이 속도 제한 / 동시성 허가를 받아 실제로 나간 시점부터 (대기 시간은 p95 와 무관)
+            Sinks.Empty<Void> firstPageSent = Sinks.empty();
+            Flux<News> apiNews = crawlNaverApi(encodedKeyword, sort, limit, firstDisplay, keyword, jobStatus,
+                    firstPageSent::tryEmitEmpty);
+            Flux<News> hedge = firstPageSent.asMono()
+                    .then(Mono.delay(hedgeDelay))
+                    .thenMany(Flux.defer(() -> {
+                        log.debug("네이버 API 응답 지연({}ms 초과), 웹 스크래핑 동시 요청 - 키워드: {}", hedgeDelay.toMillis(), keyword);
+                        return crawlNaverNewsWeb(keyword, jobStatus);
+                    }));
             
-            for (Element element : newsElements) {
-                if (newsList.size() >= jobStatus.getRequest().getMaxResults()) {
-                    break;
-                }
-                
-                News news = parseNaverNewsElement(element, keyword, jobStatus);
-                if (news != null) {
-                    newsList.add(news);
-                }
+            if (limit <= firstDisplay) {
+                // 한 페이지 요청은 웹 한 페이지와 같은 규모이므로 먼저 응답한 쪽을 사용 (나머지는 취소)
+                return Flux.firstWithSignal(apiNews, hedge);
             }
-        } catch (Exception e) {
-            log.error("네이버 웹 스크래핑 실패: {}", e.getMessage());
+            // 여러 페이지 요청은 API 수집을 취소하지 않고, 첫 API 결과가 올 때까지만 웹 결과를 함께 받음
+            // (같은 기사는 저장 시 중복 / 근사 중복 판별로 걸러짐)
+            return apiNews.publish(api -> Flux.merge(api, hedge.takeUntilOther(api.take(1))));
+        });
+    }
+    
+    /**
+     * 네이버 검색 API 로 수집합니다. 첫 페이지의 total 로 남은 페이지를 계획하고, 나머지는 순서를 유지하며 동시에 요청합니다.
+     * onFirstPageSent 는 첫 페이지 요청이 허가를 받아 실제로 나갈 때 호출됩니다.
+     */
+    private Flux<News> crawlNaverApi(String encodedKeyword, String sort, int limit, int firstDisplay,
+                                     String keyword, CrawlingJobStatus jobStatus, Runnable onFirstPageSent) {
+        return Flux.defer(() -> {
+            AtomicBoolean received = new AtomicBoolean();
+            
+            return fetchNaverApiPage(encodedKeyword, sort, 1, firstDisplay, onFirstPageSent)
+                    .flatMapMany(first -> {
+                        int available = Math.min(limit, first.total());
+                        if (first.items().size() < firstDisplay || available <= firstDisplay) {
+                            return Flux.just(first);
+                        }
+                        
+                        int remainingPages = (available - firstDisplay + NAVER_API_MAX_DISPLAY - 1) / NAVER_API_MAX_DISPLAY;
+                        Flux<NaverApiPage> rest = Flux.range(0, remainingPages)
+                                .map(i -> firstDisplay + 1 + i * NAVER_API_MAX_DISPLAY)
+                                .flatMapSequential(start -> fetchNaverApiPage(encodedKeyword, sort, start,
+                                                Math.min(NAVER_API_MAX_DISPLAY, available - start + 1), () -> { }),
+                                        Math.max(1, naverApiPageConcurrency))
+                                // 요청보다 적게 온 페이지가 마지막 페이지 - 뒤 페이지 요청은 취소
+                                .takeUntil(page -> page.items().size() < page.display());
+                        return Flux.concat(Mono.just(first), rest);
+                    })
+                    .concatMapIterable(NaverApiPage::items)
+                    .mapNotNull(item -> createNewsFromNaverItem(item, keyword, jobStatus))
+                    .transform(news -> incremental(news, CrawlRateLimiter.NAVER_API_HOST, keyword, jobStatus, "date".equals(sort)))
+                    .doOnNext(news -> received.set(true))
+                    .onErrorResume(e -> {
+                        if (received.get()) {
+                            // 이미 받은 페이지는 유지하고 남은 페이지만 포기
+                            log.warn("네이버 API 페이지 수집 중단 - 키워드: {}, 오류: {}", keyword, e.getMessage());
+                            return Flux.empty();
+                        }
+                        log.error("네이버 API 호출 실패: {}", e.getMessage());
+                        // API 실패 시 웹 스크래핑으로 대체
+                        return crawlNaverNewsWeb(keyword, jobStatus);
+                    });
+        });
+    }
+    
+    /**
+     * 네이버 검색 API 한 페이지를 요청합니다. 호스트 속도 제한 토큰을 페이지마다 예약합니다.
+     */
+    private Mono<NaverApiPage> fetchNaverApiPage(String encodedKeyword, String sort, int start, int display, Runnable onSent) {
+        String apiUrl = String.format("%s/v1/search/news.json?query=%s&display=%d&start=%d&sort=%s",
+                naverApiBaseUrl, encodedKeyword, display, start, sort);
+        
+        return throttled(CrawlRateLimiter.NAVER_API_HOST, newsCrawlerWebClient.get()
+                        .uri(URI.create(apiUrl))
+                        .header("X-Naver-Client-Id", naverClientId)
+                        .header("X-Naver-Client-Secret", naverClientSecret)
+                        .retrieve()
+                        // 맵 트리를 거치지 않고 토큰을 바로 레코드로 읽음
+                        .bodyToMono(NaverSearchDTO.NewsResponse.class), onSent)
+                .map(response -> new NaverApiPage(start, display,
+                        (int) Math.min(response.total(), Integer.MAX_VALUE),
+                        response.items() != null ? response.items() : List.of()));
+    }
+    
+    private Flux<News> crawlNaverNewsWeb(String keyword, CrawlingJobStatus jobStatus) {
+        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        String searchUrl = String.format("%s/search.naver?where=news&query=%s&sort=1", naverSearchBaseUrl, encodedKeyword);
+        
+        return throttled(CrawlRateLimiter.NAVER_SEARCH_HOST, conditionalGet(naverSearchWebClient, searchUrl, keyword, jobStatus))
+                // 파싱은 이벤트 루프 밖에서 수행
+                .publishOn(Schedulers.parallel())
+                .flatMapIterable(html -> parseNaverSearchPage(html, searchUrl, keyword, jobStatus))
+                // sort=1: 최신순
+                .transform(news -> incremental(news, CrawlRateLimiter.NAVER_SEARCH_HOST, keyword, jobStatus, true))
+                .doOnComplete(() -> responseCompleted(jobStatus, searchUrl))
+                .onErrorResume(e -> {
+                    log.error("네이버 웹 스크래핑 실패: {}", e.getMessage());
+                    return Flux.empty();
+                });
+    }
+    
+    private Flux<News> crawlGoogleNews(String keyword, CrawlingJobStatus jobStatus) {
+        // Google News RSS 수집
+        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        String searchUrl = String.format("%s/rss/search?q=%s&hl=ko&gl=KR&ceid=KR:ko", googleNewsBaseUrl, encodedKeyword);
+        
+        return throttled(CrawlRateLimiter.GOOGLE_NEWS_HOST, conditionalGet(googleNewsWebClient, searchUrl, keyword, jobStatus))
+                .publishOn(Schedulers.parallel())
+                .flatMapMany(rss -> parseGoogleNewsFeed(rss, keyword, jobStatus))
+                .doOnComplete(() -> responseCompleted(jobStatus, searchUrl))
+                .onErrorResume(e -> {
+                    log.error("구글 뉴스 크롤링 실패: {}", e.getMessage());
+                    return Flux.empty();
+                });
+    }
+    
+    /**
+     * 출처 목록에 증분 수집 기준점을 적용합니다.
+     * 최신순 목록(ordered)은 이미 수집한 기사에 닿는 즉시 구독을 끊어 나머지 파싱을 건너뜁니다.
+     * 오류 없이 끝난 목록만 다음 기준점 후보로 인정합니다.
+     * 순서가 보장되지 않는 목록은 발행 시각으로는 저장 여부를 알 수 없으므로(이전 실행이 일부만 읽었을 수 있음)
+     * 기준점을 쓰지 않고, 이미 저장된 기사는 저장 단계의 중복 필터(content_hash)가 거릅니다.
+     */
+    private Flux<News> incremental(Flux<News> newsFlux, String source, String keyword,
+                                   CrawlingJobStatus jobStatus, boolean ordered) {
+        CrawlWatermarkStore.JobWatermarks watermarks = jobStatus.getWatermarks();
+        if (watermarks == null || !ordered) {
+            return newsFlux;
         }
         
-        return newsList;
+        return newsFlux.takeWhile(news -> !watermarks.reached(source, keyword, news))
+                .doOnNext(news -> watermarks.observe(source, keyword, news))
+                .doOnComplete(() -> watermarks.streamCompleted(source, keyword));
+    }
+    
+    /**
+     * 호스트별 토큰을 예약하고 필요한 만큼 지연시킨 뒤, 출처별 동시 요청 한도 / 회로 차단기를 거쳐 요청을 구독합니다.
+     * (한도 조절에 쓰는 응답 지연에 속도 제한 대기 시간이 섞이지 않도록 대기 후에 허가를 받음)
+     */
+    private <T> Mono<T> throttled(String host, Mono<T> request) {
+        return throttled(host, request, () -> { });
+    }
+    
+    /**
+     * onSent 는 속도 제한 대기와 동시성 허가를 모두 통과해 요청이 실제로 나갈 때 호출됩니다.
+     */
+    private <T> Mono<T> throttled(String host, Mono<T> request, Runnable onSent) {
+        Mono<T> limited = crawlConcurrencyLimiter.limit(host,
+                crawlCircuitBreakers.protect(host, request.doOnSubscribe(subscription -> onSent.run())));
+        return Mono.defer(() -> {
+            // 회로가 열려 있으면 토큰을 쓰지 않고 바로 실패
+            if (!crawlCircuitBreakers.isCallPermitted(host)) {
+                return Mono.error(new CircuitBreaker.OpenException(host));
+            }
+            Duration wait = crawlRateLimiter.reserve(host);
+            return wait.isZero() ? limited : Mono.delay(wait).then(limited);
+        });
+    }
+    
+    /**
+     * 저장된 검증자로 조건부 GET 을 보냅니다.
+     * 304 Not Modified 이거나 본문 해시가 직전 응답과 같으면 빈 Mono 를 반환해 파싱을 건너뜁니다.
+     * 새 응답의 검증자는 작업에 후보로만 남기고, 키워드 결과가 저장된 뒤 체크포인트에서 기록합니다.
+     */
+    private Mono<String> conditionalGet(WebClient webClient, String url, String keyword, CrawlingJobStatus jobStatus) {
+        HttpValidatorStore.JobValidators validators = jobStatus.getValidators();
+        HttpValidatorStore.Validators cached = validators != null ? httpValidatorStore.get(validators, url) : null;
+        
+        return webClient.get()
+                .uri(URI.create(url))
+                .headers(headers -> {
+                    if (cached != null && cached.etag() != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, cached.etag());
+                    }
+                    if (cached != null && cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        log.debug("304 Not Modified, 파싱 생략 - URL: {}", url);
+                        return response.releaseBody().then(Mono.<String>empty());
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    
+                    String etag = response.headers().asHttpHeaders().getFirst(HttpHeaders.ETAG);
+                    String lastModified = response.headers().asHttpHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+                    return response.bodyToMono(String.class)
+                            .filter(body -> validators == null
+                                    || httpValidatorStore.observe(validators, keyword, url, etag, lastModified, body));
+                });
     }
     
-    private List<News> crawlGoogleNews(String keyword, CrawlingJobStatus jobStatus) throws Exception {
+    // 응답에서 나온 기사를 끝까지 내보냄 (취소되거나 실패한 응답의 검증자는 기록하지 않음)
+    private void responseCompleted(CrawlingJobStatus jobStatus, String url) {
+        HttpValidatorStore.JobValidators validators = jobStatus.getValidators();
+        if (validators != null) {
+            validators.streamCompleted(url);
+        }
+    }
+    
+    private List<News> parseNaverSearchPage(String html, String searchUrl, String keyword, CrawlingJobStatus jobStatus) {
         List<News> newsList = new ArrayList<>();
         
-        // Google News RSS 또는 웹 스크래핑 구현
-        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
-        String searchUrl = String.format("https://news.google.com/rss/search?q=%s&hl=ko&gl=KR&ceid=KR:ko", encodedKeyword);
+        Document doc = Jsoup.parse(html, searchUrl);
+        Elements newsElements = doc.select(".list_news .bx");
         
-        try {
-            Document doc = Jsoup.connect(searchUrl)
-                    .userAgent(userAgent)
-                    .timeout(10000)
-                    .get();
-            
-            Elements items = doc.select("item");
+        for (Element element : newsElements) {
+            if (newsList.size() >= jobStatus.getRequest().getMaxResults()) {
+                break;
+            }
             
-            for (Element item : items) {
-                if (newsList.size() >= jobStatus.getRequest().getMaxResults()) {
-                    break;
-                }
-                
-                News news = parseGoogleNewsItem(item, keyword, jobStatus);
-                if (news != null) {
-                    newsList.add(news);
-                }
+            News news = parseNaverNewsElement(element, keyword, jobStatus);
+            if (news != null) {
+                newsList.add(news);
             }
-        } catch (Exception e) {
-            log.error("구글 뉴스 크롤링 실패: {}", e.getMessage());
         }
         
         return newsList;
     }
     
-    private News createNewsFromNaverItem(Map<String, Object> item, String keyword, CrawlingJobStatus jobStatus) {
+    /**
+     * RSS 를 StAX 로 스트리밍 파싱하여 item 을 읽는 즉시 News 로 내보냅니다.
+     * maxResults 개를 채우면 구독이 취소되어 나머지 문서는 읽지 않습니다.
+     */
+    private Flux<News> parseGoogleNewsFeed(String rss, String keyword, CrawlingJobStatus jobStatus) {
+        return Flux.<RssStreamParser.RssItem, RssStreamParser>generate(
+                        () -> RssStreamParser.open(new StringReader(rss)),
+                        (parser, sink) -> {
+                            try {
+                                RssStreamParser.RssItem item = parser.next();
+                                if (item == null) {
+                                    sink.complete();
+                                } else {
+                                    sink.next(item);
+                                }
+                            } catch (Exception e) {
+                                sink.error(e);
+                            }
+                            return parser;
+                        },
+                        parser -> {
+                            try {
+                                parser.close();
+                            } catch (Exception e) {
+                                log.debug("RSS 파서 종료 실패: {}", e.getMessage());
+                            }
+                        })
+                .mapNotNull(item -> parseGoogleNewsItem(item, keyword, jobStatus))
+                // 검색 RSS 는 발행순이 보장되지 않으므로 기준점을 쓰지 않음 (이미 저장된 기사는 저장 시 중복 필터가 거름)
+                .take(jobStatus.getRequest().getMaxResults());
+    }
+    
+    private News createNewsFromNaverItem(NaverSearchDTO.NewsItem item, String keyword, CrawlingJobStatus jobStatus) {
         try {
-            String title = cleanHtmlTags((String) item.get("title"));
-            String link = (String) item.get("link");
-            String description = cleanHtmlTags((String) item.get("description"));
-            String pubDate = (String) item.get("pubDate");
+            String title = HtmlText.strip(item.title());
+            String link = item.link();
+            String description = HtmlText.strip(item.description());
+            String pubDate = item.pubDate();
             
             LocalDateTime publishedDate = parseNaverDate(pubDate);
             String contentHash = generateContentHash(title, link);
@@ -303,7 +1025,7 @@ public class NewsCrawlerService {
                     .crawledDate(LocalDateTime.now())
                     .contentHash(contentHash)
                     .crawlJobId(jobStatus.getJobId())
-                    .collectedByUser(jobStatus.getUser())
+                    .collectedByUser(jobStatus.getCollector())
                     .processingStatus(News.ProcessingStatus.RAW)
                     .build();
         } catch (Exception e) {
@@ -338,7 +1060,7 @@ public class NewsCrawlerService {
                     .crawledDate(LocalDateTime.now())
                     .contentHash(contentHash)
                     .crawlJobId(jobStatus.getJobId())
-                    .collectedByUser(jobStatus.getUser())
+                    .collectedByUser(jobStatus.getCollector())
                     .processingStatus(News.ProcessingStatus.RAW)
                     .build();
         } catch (Exception e) {
@@ -347,14 +1069,17 @@ public class NewsCrawlerService {
         }
     }
     
-    private News parseGoogleNewsItem(Element item, String keyword, CrawlingJobStatus jobStatus) {
+    private News parseGoogleNewsItem(RssStreamParser.RssItem item, String keyword, CrawlingJobStatus jobStatus) {
         try {
-            String title = item.selectFirst("title").text();
-            String link = item.selectFirst("link").text();
-            String description = item.selectFirst("description").text();
-            String pubDate = item.selectFirst("pubDate").text();
+            String title = item.title();
+            String link = item.link();
+            String description = item.description();
             
-            LocalDateTime publishedDate = parseGoogleDate(pubDate);
+            if (title == null || title.isEmpty() || link == null || link.isEmpty()) {
+                return null;
+            }
+            
+            LocalDateTime publishedDate = parseGoogleDate(item.pubDate());
             String contentHash = generateContentHash(title, link);
             
             return News.builder()
@@ -367,7 +1092,7 @@ public class NewsCrawlerService {
                     .crawledDate(LocalDateTime.now())
                     .contentHash(contentHash)
                     .crawlJobId(jobStatus.getJobId())
-                    .collectedByUser(jobStatus.getUser())
+                    .collectedByUser(jobStatus.getCollector())
                     .processingStatus(News.ProcessingStatus.RAW)
                     .build();
         } catch (Exception e) {
@@ -376,34 +1101,47 @@ public class NewsCrawlerService {
         }
     }
     
-    private List<News> removeDuplicates(List<News> newsList) {
-        Map<String, News> uniqueNews = new LinkedHashMap<>();
-        
-        for (News news : newsList) {
-            String hash = news.getContentHash();
-            if (!uniqueNews.containsKey(hash)) {
-                uniqueNews.put(hash, news);
-            }
-        }
-        
-        int duplicateCount = newsList.size() - uniqueNews.size();
-        if (duplicateCount > 0) {
-            log.info("중복 뉴스 제거: {}개", duplicateCount);
+    /**
+     * 청크를 배치 INSERT 로 저장하고 새로 저장된 건수를 반환합니다.
+     * 블룸 필터로 이미 저장된 기사를 먼저 걸러내고, 남은 경합 중복(content_hash)은
+     * INSERT IGNORE 가 행 단위로 무시하여 작업을 실패시키지 않습니다.
+     * 저장 후에는 다른 언론사가 먼저 낸 같은 기사를 대표 기사로 연결합니다.
+     */
+    private int saveNewsToDatabase(List<News> newsList, CrawlingJobStatus jobStatus) {
+        // 취소된 작업은 저장 단계를 건너뜀
+        if (jobStatus.isCancelled()) {
+            return 0;
         }
-        
-        return new ArrayList<>(uniqueNews.values());
-    }
-    
-    private void saveNewsToDatabase(List<News> newsList, CrawlingJobStatus jobStatus) {
         try {
-            newsRepository.saveAll(newsList);
-            log.info("뉴스 데이터 저장 완료 - {}개", newsList.size());
+            List<News> freshNews = newsDedupFilter.filterNew(newsList);
+            nearDuplicateDetector.fingerprint(freshNews);
+            int inserted = newsBatchWriter.insertIgnoringDuplicates(freshNews);
+            if (inserted > 0) {
+                assignResultSeq(jobStatus);
+            }
+            newsDedupFilter.markStored(freshNews);
+            nearDuplicateDetector.link(freshNews);
+            jobStatus.addNewsCount(inserted);
+            log.info("뉴스 데이터 저장 완료 - JobID: {}, 저장: {}개, 중복 무시: {}개",
+                    jobStatus.getJobId(), inserted, newsList.size() - inserted);
+            return inserted;
         } catch (Exception e) {
             log.error("뉴스 데이터 저장 실패: {}", e.getMessage());
             throw new RuntimeException("뉴스 데이터 저장에 실패했습니다.", e);
         }
     }
     
+    // 결과 커서용 순번 부여 - 같은 작업의 부여는 직렬화 (분산 실행은 crawl_job 행 잠금, 로컬 실행은 작업 상태 잠금)
+    private void assignResultSeq(CrawlingJobStatus jobStatus) {
+        if (jobStatus.isKeywordTask()) {
+            newsBatchWriter.assignResultSeq(jobStatus.getJobId(), true);
+            return;
+        }
+        synchronized (jobStatus.resultSeqLock) {
+            newsBatchWriter.assignResultSeq(jobStatus.getJobId(), false);
+        }
+    }
+    
     private void updateProgress(CrawlingJobStatus jobStatus) {
         int currentKeywordIndex = jobStatus.getRequest().getKeywords().indexOf(jobStatus.getCurrentKeyword());
         int totalKeywords = jobStatus.getRequest().getKeywords().size();
@@ -411,19 +1149,33 @@ public class NewsCrawlerService {
         if (currentKeywordIndex >= 0) {
             int progress = (currentKeywordIndex * 100) / totalKeywords;
             jobStatus.setProgress(Math.min(progress, 95)); // 95%까지만 진행률 표시
+            publishJobEvent(jobStatus, STAGE_CRAWLING);
+        }
+    }
+    
+    private void updateParallelProgress(CrawlingJobStatus jobStatus, String keyword, int completed, int total) {
+        synchronized (jobStatus) {
+            int progress = Math.min((completed * 100) / total, 95); // 95%까지만 진행률 표시
+            if (progress >= jobStatus.getProgress()) {
+                jobStatus.setProgress(progress);
+                jobStatus.setMessage("키워드 '" + keyword + "' 크롤링 완료 (" + completed + "/" + total + ")");
+                publishJobEvent(jobStatus, STAGE_CRAWLING);
+            }
         }
     }
     
-    private String cleanHtmlTags(String text) {
-        if (text == null) return "";
-        return text.replaceAll("<[^>]*>", "").replaceAll("&[^;]+;", "").trim();
+    private void publishJobEvent(CrawlingJobStatus jobStatus, String stage) {
+        // 분산 실행의 키워드 작업은 작업 전체 진행률을 DB 에서 계산해 따로 발행
+        if (jobStatus.isKeywordTask()) {
+            return;
+        }
+        jobEventService.publish(jobStatus.getJobId(), jobStatus.getStatus(), stage,
+                jobStatus.getProgress(), jobStatus.getMessage());
     }
     
     private LocalDateTime parseNaverDate(String dateString) {
         try {
-            // 네이버 API 날짜 형식: "Mon, ddMMMyyyy HH:mm:ss +0900"
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
-            return LocalDateTime.parse(dateString, formatter);
+            return LocalDateTime.parse(dateString, NAVER_DATE_FORMAT);
         } catch (Exception e) {
             log.warn("네이버 날짜 파싱 실패: {}", dateString);
             return LocalDateTime.now();
@@ -458,26 +1210,182 @@ public class NewsCrawlerService {
         }
     }
     
-    // 크롤링 작업 상태 관리 클래스
-    private static class CrawlingJobStatus {
+    // 네이버 API 응답 한 페이지 (요청한 start / display 와 전체 검색 결과 수)
+    private record NaverApiPage(int start, int display, int total, List<NaverSearchDTO.NewsItem> items) {
+    }
+    
+    /**
+     * 작업 단위 중복 제거 및 청크 저장 버퍼
+     * 키워드가 끝날 때마다 결과를 받아 처음 보는 기사만 모으고, 청크 크기가 차면 바로 저장합니다.
+     * 저장 중 JDBC I/O 가 가상 스레드를 캐리어에 고정하지 않도록 synchronized 대신 ReentrantLock 을 사용합니다.
+     */
+    private class NewsChunkBuffer {
+        private final CrawlingJobStatus jobStatus;
+        private final KeywordCheckpointTracker tracker;
+        private final Set<String> seenHashes = new HashSet<>();
+        private final List<News> pending = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private int savedCount;
+        
+        NewsChunkBuffer(CrawlingJobStatus jobStatus, KeywordCheckpointTracker tracker) {
+            this.jobStatus = jobStatus;
+            this.tracker = tracker;
+        }
+        
+        void addAll(String keyword, List<News> newsList) {
+            int chunkSize = Math.max(1, saveBatchSize);
+            lock.lock();
+            try {
+                int duplicateCount = 0;
+                for (News news : newsList) {
+                    tracker.queued(news);
+                    if (seenHashes.add(news.getContentHash())) {
+                        pending.add(news);
+                    } else {
+                        tracker.dropped(news);
+                        duplicateCount++;
+                    }
+                }
+                if (duplicateCount > 0) {
+                    log.info("중복 뉴스 제거: {}개", duplicateCount);
+                }
+                
+                while (pending.size() >= chunkSize) {
+                    List<News> chunk = pending.subList(0, chunkSize);
+                    List<News> saving = new ArrayList<>(chunk);
+                    savedCount += saveNewsToDatabase(saving, jobStatus);
+                    tracker.saved(saving);
+                    chunk.clear();
+                }
+            } finally {
+                lock.unlock();
+            }
+            tracker.fetched(keyword);
+        }
+        
+        int flush() {
+            lock.lock();
+            try {
+                if (!pending.isEmpty()) {
+                    List<News> saving = new ArrayList<>(pending);
+                    savedCount += saveNewsToDatabase(saving, jobStatus);
+                    tracker.saved(saving);
+                    pending.clear();
+                }
+                return savedCount;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+    
+    /**
+     * 키워드별 체크포인트 추적기
+     * 키워드 수집이 끝나고 그 키워드에서 나온 기사가 모두 저장(또는 중복으로 제외)된 시점에
+     * 해당 키워드를 완료로 기록하고 증분 수집 기준점과 HTTP 검증자를 기록합니다.
+     * DB 기록은 이벤트 루프를 막지 않도록 boundedElastic 에서 수행합니다.
+     */
+    private class KeywordCheckpointTracker {
+        private final CrawlingJobStatus jobStatus;
+        private final CrawlWatermarkStore.JobWatermarks watermarks;
+        private final HttpValidatorStore.JobValidators validators;
+        private final Map<String, AtomicInteger> outstanding = new ConcurrentHashMap<>();
+        private final Set<String> fetched = ConcurrentHashMap.newKeySet();
+        private final Set<String> checkpointed = ConcurrentHashMap.newKeySet();
+        
+        KeywordCheckpointTracker(CrawlingJobStatus jobStatus) {
+            this.jobStatus = jobStatus;
+            this.watermarks = jobStatus.getWatermarks();
+            this.validators = jobStatus.getValidators();
+        }
+        
+        void queued(News news) {
+            counter(news.getKeyword()).incrementAndGet();
+        }
+        
+        // 중복으로 저장 대상에서 빠진 기사 - 필터 조건으로 쓰기 위해 항상 false 반환
+        boolean dropped(News news) {
+            counter(news.getKeyword()).decrementAndGet();
+            return false;
+        }
+        
+        void saved(List<News> chunk) {
+            Set<String> keywords = new HashSet<>();
+            for (News news : chunk) {
+                counter(news.getKeyword()).decrementAndGet();
+                keywords.add(news.getKeyword());
+            }
+            keywords.forEach(this::tryCheckpoint);
+        }
+        
+        void fetched(String keyword) {
+            fetched.add(keyword);
+            tryCheckpoint(keyword);
+        }
+        
+        private void tryCheckpoint(String keyword) {
+            // 취소된 작업의 키워드는 완료로 기록하지 않음
+            if (jobStatus.isCancelled() || !fetched.contains(keyword) || counter(keyword).get() > 0) {
+                return;
+            }
+            if (checkpointed.add(keyword)) {
+                String jobId = jobStatus.getJobId();
+                Schedulers.boundedElastic().schedule(() -> {
+                    // 분산 실행은 crawl_task 상태가 키워드 체크포인트 역할
+                    if (!crawlTaskQueue.isEnabled()) {
+                        crawlCheckpointStore.keywordCompleted(jobId, keyword);
+                    }
+                    if (watermarks != null) {
+                        crawlWatermarkStore.commit(watermarks, keyword);
+                    }
+                    if (validators != null) {
+                        httpValidatorStore.commit(validators, keyword);
+                    }
+                });
+            }
+        }
+        
+        private AtomicInteger counter(String keyword) {
+            return outstanding.computeIfAbsent(keyword, k -> new AtomicInteger());
+        }
+    }
+    
+    // 크롤링 작업 상태 관리 클래스 - 끝난 뒤에는 사용자 id 와 결과 요약만 남깁니다.
+    private static class CrawlingJobStatus implements JobRegistry.TrackedJob {
         private String jobId;
-        private User user;
-        private NewsDTO.CrawlRequest request;
-        private String status;
-        private int progress;
-        private String message;
-        private String error;
-        private int newsCount;
+        private Long userId;
+        // 실행 중에만 사용 (News.collectedByUser 지정용), 종료 시 해제
+        private volatile User collector;
+        private volatile NewsDTO.CrawlRequest request;
+        // 취소 시 중단할 실행 핸들 (reactive: 구독, 그 외: 실행기 작업)
+        private volatile Disposable subscription;
+        private volatile Future<?> task;
+        // 증분 수집 기준점 (실행 중에만 사용)
+        private volatile CrawlWatermarkStore.JobWatermarks watermarks;
+        // 조건부 요청 검증자 범위와 후보 (실행 중에만 사용)
+        private volatile HttpValidatorStore.JobValidators validators;
+        private volatile String status;
+        private volatile int progress;
+        private volatile String message;
+        private volatile String error;
+        private volatile int newsCount;
         private LocalDateTime startTime;
-        private LocalDateTime endTime;
-        private String currentKeyword;
+        private volatile LocalDateTime endTime;
+        private volatile String currentKeyword;
+        // 분산 실행에서 임대받은 키워드 작업 하나의 실행 상태
+        private boolean keywordTask;
+        // 로컬 실행에서 병렬 키워드 저장의 결과 순번 부여를 직렬화
+        private final Object resultSeqLock = new Object();
         
         // Getters and Setters
         public String getJobId() { return jobId; }
         public void setJobId(String jobId) { this.jobId = jobId; }
         
-        public User getUser() { return user; }
-        public void setUser(User user) { this.user = user; }
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+        
+        public User getCollector() { return collector; }
+        public void setCollector(User collector) { this.collector = collector; }
         
         public NewsDTO.CrawlRequest getRequest() { return request; }
         public void setRequest(NewsDTO.CrawlRequest request) { this.request = request; }
@@ -505,5 +1413,66 @@ public class NewsCrawlerService {
         
         public String getCurrentKeyword() { return currentKeyword; }
         public void setCurrentKeyword(String currentKeyword) { this.currentKeyword = currentKeyword; }
+        
+        public Disposable getSubscription() { return subscription; }
+        public void setSubscription(Disposable subscription) { this.subscription = subscription; }
+        
+        public Future<?> getTask() { return task; }
+        public void setTask(Future<?> task) { this.task = task; }
+        
+        public CrawlWatermarkStore.JobWatermarks getWatermarks() { return watermarks; }
+        public void setWatermarks(CrawlWatermarkStore.JobWatermarks watermarks) { this.watermarks = watermarks; }
+        public HttpValidatorStore.JobValidators getValidators() { return validators; }
+        public void setValidators(HttpValidatorStore.JobValidators validators) { this.validators = validators; }
+        
+        public boolean isKeywordTask() { return keywordTask; }
+        public void setKeywordTask(boolean keywordTask) { this.keywordTask = keywordTask; }
+        
+        public synchronized void addNewsCount(int count) { this.newsCount += count; }
+        
+        /**
+         * QUEUED 상태일 때만 RUNNING 으로 바꿉니다. 대기 중에 취소되었으면 false.
+         */
+        public synchronized boolean begin() {
+            if (!"QUEUED".equals(status)) {
+                return false;
+            }
+            status = "RUNNING";
+            message = "크롤링 시작";
+            return true;
+        }
+        
+        /**
+         * 대기 / 실행 중일 때만 종료 상태로 바꾸고 성공 여부를 반환합니다.
+         * 취소와 완료가 경합해도 먼저 도착한 쪽만 반영됩니다.
+         */
+        public synchronized boolean finish(String finalStatus) {
+            if (isFinished()) {
+                return false;
+            }
+            status = finalStatus;
+            endTime = LocalDateTime.now();
+            return true;
+        }
+        
+        public boolean isCancelled() {
+            return "CANCELLED".equals(status);
+        }
+        
+        @Override
+        public boolean isFinished() {
+            return !"QUEUED".equals(status) && !"RUNNING".equals(status);
+        }
+        
+        // 종료된 작업이 요청과 사용자 엔티티를 붙잡고 있지 않도록 해제
+        void release() {
+            request = null;
+            collector = null;
+            currentKeyword = null;
+            subscription = null;
+            task = null;
+            watermarks = null;
+            validators = null;
+        }
     }
 }
\ No newline at end of file
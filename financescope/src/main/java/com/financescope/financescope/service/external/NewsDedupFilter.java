@@ -0,0 +1,201 @@
+package com.financescope.financescope.service.external;
+
+import com.financescope.financescope.entity.News;
+import com.financescope.financescope.repository.NewsRepository;
+import com.financescope.financescope.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 결과 저장 전 중복 사전 필터
+ *
+ * 이미 저장된 뉴스의 contentHash / originalUrl 을 메모리 블룸 필터에 올려 두고,
+ * 새 기사는 필터에서 O(1) 로 걸러 "확실히 새 것" 은 바로 저장하고
+ * "있을 수도 있는 것" 만 DB 에 IN 쿼리 한 번으로 확인합니다.
+ * 필터는 주기적으로 DB 에서 다시 만들어 삭제된 행과 누적 오탐을 정리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsDedupFilter {
+
+    private static final String HASH_PREFIX = "h:";
+    private static final String URL_PREFIX = "u:";
+
+    private final NewsRepository newsRepository;
+
+    @Value("${app.crawling.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.crawling.dedup.expected-items:2000000}")
+    private long expectedItems;
+
+    @Value("${app.crawling.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.crawling.dedup.rebuild-page-size:5000}")
+    private int rebuildPageSize;
+
+    private volatile BloomFilter filter;
+    // 재구성 중에 저장된 키는 새 필터에도 함께 기록
+    private volatile BloomFilter building;
+
+    private final AtomicLong screened = new AtomicLong();
+    private final AtomicLong possiblePositives = new AtomicLong();
+    private final AtomicLong confirmedDuplicates = new AtomicLong();
+
+    /**
+     * 저장된 뉴스 키로 필터를 다시 만들어 교체합니다.
+     */
+    @Scheduled(initialDelayString = "${app.crawling.dedup.initial-delay:10000}",
+               fixedDelayString = "${app.crawling.dedup.rebuild-interval:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        BloomFilter next = BloomFilter.create(expectedItems, falsePositiveRate);
+        building = next;
+
+        try {
+            long lastId = 0L;
+            long rows = 0L;
+            while (true) {
+                List<Object[]> page = newsRepository.findDedupKeysAfterId(lastId, PageRequest.of(0, rebuildPageSize));
+                for (Object[] row : page) {
+                    lastId = (Long) row[0];
+                    putKeys(next, (String) row[1], (String) row[2]);
+                }
+                rows += page.size();
+                if (page.size() < rebuildPageSize) {
+                    break;
+                }
+            }
+
+            filter = next;
+            log.info("중복 필터 재구성 완료 - 뉴스: {}건, 비트: {}, 해시 함수: {}개, 소요: {}ms",
+                    rows, next.getBitSize(), next.getHashFunctions(), System.currentTimeMillis() - startTime);
+
+            if (next.getInsertions() > expectedItems) {
+                log.warn("중복 필터 원소 수가 예상치를 넘었습니다. app.crawling.dedup.expected-items 를 늘려 주세요 - 원소: {}",
+                        next.getInsertions());
+            }
+        } catch (Exception e) {
+            log.error("중복 필터 재구성 실패: {}", e.getMessage(), e);
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * 이미 저장된 뉴스를 제외한 목록을 반환합니다.
+     * 필터가 아직 준비되지 않았으면 그대로 반환하고, 중복은 INSERT IGNORE 가 처리합니다.
+     */
+    public List<News> filterNew(List<News> newsList) {
+        BloomFilter current = filter;
+        if (!enabled || current == null || newsList.isEmpty()) {
+            return newsList;
+        }
+
+        List<News> fresh = new ArrayList<>(newsList.size());
+        Map<News, Boolean> candidates = new LinkedHashMap<>();   // 값: 해시가 양성인지 여부
+
+        for (News news : newsList) {
+            boolean hashHit = news.getContentHash() != null && current.mightContain(HASH_PREFIX + news.getContentHash());
+            boolean urlHit = news.getOriginalUrl() != null && current.mightContain(URL_PREFIX + news.getOriginalUrl());
+            if (hashHit || urlHit) {
+                candidates.put(news, hashHit);
+            } else {
+                fresh.add(news);
+            }
+        }
+
+        screened.addAndGet(newsList.size());
+        if (candidates.isEmpty()) {
+            return fresh;
+        }
+        possiblePositives.addAndGet(candidates.size());
+
+        Set<String> hashes = new HashSet<>();
+        Set<String> urls = new HashSet<>();
+        candidates.forEach((news, hashHit) -> {
+            if (hashHit) {
+                hashes.add(news.getContentHash());
+            } else {
+                // URL 만 양성인 경우 (같은 URL, 다른 제목)에만 URL 로 확인
+                urls.add(news.getOriginalUrl());
+            }
+        });
+
+        Set<String> existingHashes = hashes.isEmpty()
+                ? Set.of() : new HashSet<>(newsRepository.findExistingContentHashes(hashes));
+        Set<String> existingUrls = urls.isEmpty()
+                ? Set.of() : new HashSet<>(newsRepository.findExistingOriginalUrls(urls));
+
+        int duplicates = 0;
+        for (Map.Entry<News, Boolean> entry : candidates.entrySet()) {
+            News news = entry.getKey();
+            boolean exists = entry.getValue()
+                    ? existingHashes.contains(news.getContentHash())
+                    : existingUrls.contains(news.getOriginalUrl());
+            if (exists) {
+                duplicates++;
+            } else {
+                fresh.add(news);
+            }
+        }
+        confirmedDuplicates.addAndGet(duplicates);
+
+        log.debug("중복 사전 필터 - 입력: {}건, 후보: {}건, 중복 확인: {}건", newsList.size(), candidates.size(), duplicates);
+        return fresh;
+    }
+
+    /**
+     * 새로 저장된 뉴스의 키를 필터에 추가합니다.
+     */
+    public void markStored(List<News> newsList) {
+        BloomFilter current = filter;
+        BloomFilter next = building;
+        for (News news : newsList) {
+            if (current != null) {
+                putKeys(current, news.getContentHash(), news.getOriginalUrl());
+            }
+            if (next != null && next != current) {
+                putKeys(next, news.getContentHash(), news.getOriginalUrl());
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        BloomFilter current = filter;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", current != null);
+        stats.put("insertions", current != null ? current.getInsertions() : 0L);
+        stats.put("screened", screened.get());
+        stats.put("possiblePositives", possiblePositives.get());
+        stats.put("confirmedDuplicates", confirmedDuplicates.get());
+        return stats;
+    }
+
+    private void putKeys(BloomFilter target, String contentHash, String originalUrl) {
+        if (contentHash != null) {
+            target.put(HASH_PREFIX + contentHash);
+        }
+        if (originalUrl != null) {
+            target.put(URL_PREFIX + originalUrl);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.financescope.financescope.service.external;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.List;
@@ -15,7 +17,10 @@ import java.util.Map;
 @Slf4j
 public class SentimentAnalysisService {
 
-    private final WebClient.Builder webClientBuilder;
+    @Qualifier("huggingfaceWebClient")
+    private final WebClient huggingfaceWebClient;
+    @Qualifier("openaiWebClient")
+    private final WebClient openaiWebClient;
     
     @Value("${external-api.ml.huggingface.api-key:}")
     private String huggingfaceApiKey;
@@ -23,90 +28,87 @@ public class SentimentAnalysisService {
     @Value("${external-api.ml.openai.api-key:}")
     private String openaiApiKey;
 
-    public SentimentResult analyzeSentiment(String text) {
+    /**
+     * 논블로킹 감성 분석 - 외부 API 호출이 실패하면 룰 기반 결과로 대체합니다.
+     */
+    public Mono<SentimentResult> analyzeSentimentAsync(String text) {
         if (text == null || text.trim().isEmpty()) {
-            return new SentimentResult(0.5, "NEUTRAL");
+            return Mono.just(new SentimentResult(0.5, "NEUTRAL"));
         }
         
-        try {
-            // 외부 API 사용 가능한 경우
-            if (!huggingfaceApiKey.isEmpty()) {
-                return analyzeWithHuggingface(text);
-            } else if (!openaiApiKey.isEmpty()) {
-                return analyzeWithOpenAI(text);
-            } else {
-                // 간단한 룰 기반 감성 분석
-                return analyzeWithSimpleRules(text);
-            }
-        } catch (Exception e) {
-            log.error("감성 분석 실패, 룰 기반으로 대체: {}", e.getMessage());
-            return analyzeWithSimpleRules(text);
+        Mono<SentimentResult> result;
+        // 외부 API 사용 가능한 경우
+        if (!huggingfaceApiKey.isEmpty()) {
+            result = analyzeWithHuggingface(text);
+        } else if (!openaiApiKey.isEmpty()) {
+            result = analyzeWithOpenAI(text);
+        } else {
+            // 간단한 룰 기반 감성 분석
+            result = Mono.fromSupplier(() -> analyzeWithSimpleRules(text));
         }
+        
+        return result.onErrorResume(e -> {
+            log.error("감성 분석 실패, 룰 기반으로 대체: {}", e.getMessage());
+            return Mono.fromSupplier(() -> analyzeWithSimpleRules(text));
+        });
     }
     
-    private SentimentResult analyzeWithHuggingface(String text) {
-        try {
-            WebClient webClient = webClientBuilder.build();
-            
-            Map<String, String> requestBody = Map.of("inputs", text);
-            
-            List<Map<String, Object>> response = webClient.post()
-                    .uri("https://api-inference.huggingface.co/models/nlptown/bert-base-multilingual-uncased-sentiment")
-                    .header("Authorization", "Bearer " + huggingfaceApiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(List.class)
-                    .block();
-            
-            if (response != null && !response.isEmpty()) {
-                Map<String, Object> result = response.get(0);
-                String label = (String) result.get("label");
-                Double score = (Double) result.get("score");
-                
-                return convertHuggingfaceResult(label, score);
-            }
-        } catch (Exception e) {
-            log.error("Hugging Face API 호출 실패: {}", e.getMessage());
-        }
+    private Mono<SentimentResult> analyzeWithHuggingface(String text) {
+        Map<String, String> requestBody = Map.of("inputs", text);
         
-        return analyzeWithSimpleRules(text);
+        return huggingfaceWebClient.post()
+                .uri("https://api-inference.huggingface.co/models/nlptown/bert-base-multilingual-uncased-sentiment")
+                .header("Authorization", "Bearer " + huggingfaceApiKey)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(List.class)
+                .filter(response -> !response.isEmpty())
+                .map(response -> {
+                    Map<String, Object> result = (Map<String, Object>) response.get(0);
+                    String label = (String) result.get("label");
+                    Double score = (Double) result.get("score");
+                    
+                    return convertHuggingfaceResult(label, score);
+                })
+                .onErrorResume(e -> {
+                    log.error("Hugging Face API 호출 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> analyzeWithSimpleRules(text)));
     }
     
-    private SentimentResult analyzeWithOpenAI(String text) {
-        try {
-            WebClient webClient = webClientBuilder.build();
-            
-            Map<String, Object> requestBody = Map.of(
-                    "model", "gpt-3.5-turbo",
-                    "messages", Arrays.asList(
-                            Map.of("role", "system", "content", "다음 텍스트의 감성을 분석하여 POSITIVE, NEGATIVE, NEUTRAL 중 하나로 답하고 0-1 사이의 신뢰도 점수를 제공하세요."),
-                            Map.of("role", "user", "content", text)
-                    ),
-                    "max_tokens", 50
-            );
-            
-            Map<String, Object> response = webClient.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openaiApiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-            
-            if (response != null && response.containsKey("choices")) {
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-                if (!choices.isEmpty()) {
+    private Mono<SentimentResult> analyzeWithOpenAI(String text) {
+        Map<String, Object> requestBody = Map.of(
+                "model", "gpt-3.5-turbo",
+                "messages", Arrays.asList(
+                        Map.of("role", "system", "content", "다음 텍스트의 감성을 분석하여 POSITIVE, NEGATIVE, NEUTRAL 중 하나로 답하고 0-1 사이의 신뢰도 점수를 제공하세요."),
+                        Map.of("role", "user", "content", text)
+                ),
+                "max_tokens", 50
+        );
+        
+        return openaiWebClient.post()
+                .uri("https://api.openai.com/v1/chat/completions")
+                .header("Authorization", "Bearer " + openaiApiKey)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .filter(response -> response.containsKey("choices"))
+                .flatMap(response -> {
+                    List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
+                    if (choices.isEmpty()) {
+                        return Mono.empty();
+                    }
                     Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
                     String content = (String) message.get("content");
                     
-                    return parseOpenAIResult(content);
-                }
-            }
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 실패: {}", e.getMessage());
-        }
-        
-        return analyzeWithSimpleRules(text);
+                    return Mono.just(parseOpenAIResult(content));
+                })
+                .onErrorResume(e -> {
+                    log.error("OpenAI API 호출 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> analyzeWithSimpleRules(text)));
     }
     
     private SentimentResult analyzeWithSimpleRules(String text) {
@@ -2,9 +2,11 @@ package com.financescope.financescope.service.external;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,7 +18,10 @@ import java.util.Map;
 @Slf4j
 public class SummarizationService {
 
-    private final WebClient.Builder webClientBuilder;
+    @Qualifier("huggingfaceWebClient")
+    private final WebClient huggingfaceWebClient;
+    @Qualifier("openaiWebClient")
+    private final WebClient openaiWebClient;
     
     @Value("${external-api.ml.huggingface.api-key:}")
     private String huggingfaceApiKey;
@@ -24,149 +29,135 @@ public class SummarizationService {
     @Value("${external-api.ml.openai.api-key:}")
     private String openaiApiKey;
 
-    public String summarize(String text, String model, Integer maxLength) {
+    /**
+     * 논블로킹 요약 - 모델 호출이 실패하면 간단한 추출 요약으로 대체합니다.
+     */
+    public Mono<String> summarizeAsync(String text, String model, Integer maxLength) {
         if (text == null || text.trim().isEmpty()) {
-            return "";
+            return Mono.just("");
         }
         
-        if (maxLength == null) {
-            maxLength = 150;
-        }
+        int length = maxLength != null ? maxLength : 150;
         
-        try {
+        return Mono.defer(() -> {
             switch (model.toUpperCase()) {
                 case "KOBART":
-                    return summarizeWithKoBART(text, maxLength);
+                    return summarizeWithKoBART(text, length);
                 case "KOBERT":
-                    return summarizeWithKoBERT(text, maxLength);
+                    return summarizeWithKoBERT(text, length);
                 case "T5":
-                    return summarizeWithT5(text, maxLength);
+                    return summarizeWithT5(text, length);
                 default:
-                    return summarizeWithSimpleMethod(text, maxLength);
+                    return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, length));
             }
-        } catch (Exception e) {
+        }).onErrorResume(e -> {
             log.error("요약 실패, 간단한 방법으로 대체: {}", e.getMessage());
-            return summarizeWithSimpleMethod(text, maxLength);
-        }
+            return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, length));
+        });
     }
     
-    private String summarizeWithKoBART(String text, Integer maxLength) {
-        try {
-            if (!huggingfaceApiKey.isEmpty()) {
-                return summarizeWithHuggingface(text, "gogamza/kobart-summarization", maxLength);
-            }
-        } catch (Exception e) {
-            log.error("KoBART 요약 실패: {}", e.getMessage());
+    private Mono<String> summarizeWithKoBART(String text, Integer maxLength) {
+        if (huggingfaceApiKey.isEmpty()) {
+            return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, maxLength));
         }
         
-        return summarizeWithSimpleMethod(text, maxLength);
+        return summarizeWithHuggingface(text, "gogamza/kobart-summarization", maxLength)
+                .onErrorResume(e -> {
+                    log.error("KoBART 요약 실패: {}", e.getMessage());
+                    return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, maxLength));
+                });
     }
     
-    private String summarizeWithKoBERT(String text, Integer maxLength) {
-        try {
-            if (!huggingfaceApiKey.isEmpty()) {
-                return summarizeWithHuggingface(text, "monologg/kobert", maxLength);
-            }
-        } catch (Exception e) {
-            log.error("KoBERT 요약 실패: {}", e.getMessage());
+    private Mono<String> summarizeWithKoBERT(String text, Integer maxLength) {
+        if (huggingfaceApiKey.isEmpty()) {
+            return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, maxLength));
         }
         
-        return summarizeWithSimpleMethod(text, maxLength);
+        return summarizeWithHuggingface(text, "monologg/kobert", maxLength)
+                .onErrorResume(e -> {
+                    log.error("KoBERT 요약 실패: {}", e.getMessage());
+                    return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, maxLength));
+                });
     }
     
-    private String summarizeWithT5(String text, Integer maxLength) {
-        try {
-            if (!openaiApiKey.isEmpty()) {
-                return summarizeWithOpenAI(text, maxLength);
-            } else if (!huggingfaceApiKey.isEmpty()) {
-                return summarizeWithHuggingface(text, "t5-base", maxLength);
-            }
-        } catch (Exception e) {
-            log.error("T5 요약 실패: {}", e.getMessage());
+    private Mono<String> summarizeWithT5(String text, Integer maxLength) {
+        Mono<String> summary;
+        if (!openaiApiKey.isEmpty()) {
+            summary = summarizeWithOpenAI(text, maxLength);
+        } else if (!huggingfaceApiKey.isEmpty()) {
+            summary = summarizeWithHuggingface(text, "t5-base", maxLength);
+        } else {
+            return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, maxLength));
         }
         
-        return summarizeWithSimpleMethod(text, maxLength);
+        return summary.onErrorResume(e -> {
+            log.error("T5 요약 실패: {}", e.getMessage());
+            return Mono.fromSupplier(() -> summarizeWithSimpleMethod(text, maxLength));
+        });
     }
     
-    private String summarizeWithHuggingface(String text, String modelName, Integer maxLength) {
-        try {
-            WebClient webClient = webClientBuilder.build();
-            
-            Map<String, Object> requestBody = Map.of(
-                    "inputs", text,
-                    "parameters", Map.of(
-                            "max_length", maxLength,
-                            "min_length", Math.min(30, maxLength / 3),
-                            "do_sample", false
-                    )
-            );
-            
-            List<Map<String, Object>> response = webClient.post()
-                    .uri("https://api-inference.huggingface.co/models/" + modelName)
-                    .header("Authorization", "Bearer " + huggingfaceApiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(List.class)
-                    .block();
-            
-            if (response != null && !response.isEmpty()) {
-                Map<String, Object> result = response.get(0);
-                String summary = (String) result.get("summary_text");
-                
-                if (summary != null && !summary.trim().isEmpty()) {
-                    return summary.trim();
-                }
-            }
-        } catch (Exception e) {
-            log.error("Hugging Face 요약 API 호출 실패: {}", e.getMessage());
-        }
-        
-        throw new RuntimeException("Hugging Face 요약 실패");
+    private Mono<String> summarizeWithHuggingface(String text, String modelName, Integer maxLength) {
+        Map<String, Object> requestBody = Map.of(
+                "inputs", text,
+                "parameters", Map.of(
+                        "max_length", maxLength,
+                        "min_length", Math.min(30, maxLength / 3),
+                        "do_sample", false
+                )
+        );
+        
+        return huggingfaceWebClient.post()
+                .uri("https://api-inference.huggingface.co/models/" + modelName)
+                .header("Authorization", "Bearer " + huggingfaceApiKey)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(List.class)
+                .filter(response -> !response.isEmpty())
+                .mapNotNull(response -> {
+                    Map<String, Object> result = (Map<String, Object>) response.get(0);
+                    String summary = (String) result.get("summary_text");
+                    
+                    return summary != null && !summary.trim().isEmpty() ? summary.trim() : null;
+                })
+                .doOnError(e -> log.error("Hugging Face 요약 API 호출 실패: {}", e.getMessage()))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Hugging Face 요약 실패")));
     }
     
-    private String summarizeWithOpenAI(String text, Integer maxLength) {
-        try {
-            WebClient webClient = webClientBuilder.build();
-            
-            String prompt = String.format(
-                    "다음 뉴스 기사를 %d자 이내로 요약해주세요. 핵심 내용만 간단명료하게 정리해주세요:\n\n%s",
-                    maxLength, text
-            );
-            
-            Map<String, Object> requestBody = Map.of(
-                    "model", "gpt-3.5-turbo",
-                    "messages", Arrays.asList(
-                            Map.of("role", "system", "content", "당신은 뉴스 기사를 요약하는 전문가입니다."),
-                            Map.of("role", "user", "content", prompt)
-                    ),
-                    "max_tokens", maxLength / 2,
-                    "temperature", 0.3
-            );
-            
-            Map<String, Object> response = webClient.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openaiApiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-            
-            if (response != null && response.containsKey("choices")) {
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-                if (!choices.isEmpty()) {
+    private Mono<String> summarizeWithOpenAI(String text, Integer maxLength) {
+        String prompt = String.format(
+                "다음 뉴스 기사를 %d자 이내로 요약해주세요. 핵심 내용만 간단명료하게 정리해주세요:\n\n%s",
+                maxLength, text
+        );
+        
+        Map<String, Object> requestBody = Map.of(
+                "model", "gpt-3.5-turbo",
+                "messages", Arrays.asList(
+                        Map.of("role", "system", "content", "당신은 뉴스 기사를 요약하는 전문가입니다."),
+                        Map.of("role", "user", "content", prompt)
+                ),
+                "max_tokens", maxLength / 2,
+                "temperature", 0.3
+        );
+        
+        return openaiWebClient.post()
+                .uri("https://api.openai.com/v1/chat/completions")
+                .header("Authorization", "Bearer " + openaiApiKey)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .filter(response -> response.containsKey("choices"))
+                .mapNotNull(response -> {
+                    List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
+                    if (choices.isEmpty()) {
+                        return null;
+                    }
                     Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
                     String content = (String) message.get("content");
                     
-                    if (content != null && !content.trim().isEmpty()) {
-                        return content.trim();
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("OpenAI 요약 API 호출 실패: {}", e.getMessage());
-        }
-        
-        throw new RuntimeException("OpenAI 요약 실패");
+                    return content != null && !content.trim().isEmpty() ? content.trim() : null;
+                })
+                .doOnError(e -> log.error("OpenAI 요약 API 호출 실패: {}", e.getMessage()))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("OpenAI 요약 실패")));
     }
     
     private String summarizeWithSimpleMethod(String text, Integer maxLength) {
@@ -0,0 +1,189 @@
+package com.financescope.financescope.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * AIMD 방식의 적응형 동시 실행 한도
+ *
+ * 응답이 정상이고 지연이 기준 지연의 latencyTolerance 배 이내이면 한도를 요청 한 번에 1/limit 씩
+ * (한도만큼 응답을 받을 때마다 1씩) 올리고, 429 / 5xx / 타임아웃이나 느린 응답이 오면 backoffRatio 배로 줄입니다.
+ * 동시에 실행 중이던 요청들이 한꺼번에 실패해도 한 번만 줄도록, 감소 후 기준 지연만큼은 다시 줄이지 않습니다.
+ *
+ * 기준 지연은 관측한 가장 짧은 응답 시간이며, 상대 서버 상태가 바뀌어도 따라가도록 샘플마다 조금씩 늘립니다.
+ * 한도가 찬 상태의 요청은 대기열에 들어가고, 허가를 받으면 콜백이 호출됩니다. (호출 스레드를 막지 않음)
+ */
+public class AimdLimiter {
+
+    public enum Outcome {
+        // 정상 응답 (지연 측정에 사용)
+        SUCCESS,
+        // 과부하 신호 (429, 5xx, 타임아웃) - 한도 감소
+        DROPPED,
+        // 한도와 무관한 결과 (취소, 4xx 등)
+        IGNORED
+    }
+
+    // 기준 지연이 샘플마다 늘어나는 비율
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private double limit;
+    private int inFlight;
+    private long baselineNanos;
+    private long lastDecreaseNanos;
+    private long dropped;
+    private final ArrayDeque<Ticket> waiters = new ArrayDeque<>();
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1 || latencyTolerance <= 1) {
+            throw new IllegalArgumentException("1 <= minLimit <= maxLimit, 0 < backoffRatio < 1, latencyTolerance > 1 이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 허가를 요청합니다. 한도에 여유가 있으면 호출 스레드에서 바로, 아니면 앞선 요청이 끝날 때 onGranted 를 호출합니다.
+     */
+    public Ticket acquire(Consumer<Permit> onGranted) {
+        Ticket ticket = new Ticket(onGranted);
+        Permit permit = null;
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                permit = ticket.grant();
+            } else {
+                waiters.addLast(ticket);
+            }
+        }
+        if (permit != null) {
+            onGranted.accept(permit);
+        }
+        return ticket;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    public synchronized long getBaselineNanos() {
+        return baselineNanos;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    private void release(Outcome outcome, long startNanos) {
+        List<Ticket> granted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            long now = System.nanoTime();
+            if (outcome == Outcome.SUCCESS) {
+                onSample(now - startNanos, now);
+            } else if (outcome == Outcome.DROPPED) {
+                dropped++;
+                decrease(now);
+            }
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                Ticket ticket = waiters.pollFirst();
+                granted.add(ticket);
+                permits.add(ticket.grant());
+            }
+        }
+        for (int i = 0; i < granted.size(); i++) {
+            granted.get(i).onGranted.accept(permits.get(i));
+        }
+    }
+
+    private void onSample(long rttNanos, long now) {
+        baselineNanos = baselineNanos == 0 ? rttNanos
+                : Math.min(rttNanos, (long) (baselineNanos * (1 + BASELINE_DRIFT)));
+        if (rttNanos > baselineNanos * latencyTolerance) {
+            decrease(now);
+            return;
+        }
+        // 한도를 절반 이상 쓰고 있을 때만 늘림 (유휴 상태에서 한도가 부풀지 않도록)
+        if (inFlight + 1 >= limit / 2) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private void decrease(long now) {
+        if (lastDecreaseNanos != 0 && now - lastDecreaseNanos < baselineNanos) {
+            return;
+        }
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreaseNanos = now;
+    }
+
+    /**
+     * 허가 요청 핸들 - 대기 중에 취소하면 대기열에서 빠지고, 이미 허가를 받았으면 반납합니다.
+     */
+    public final class Ticket {
+        private final Consumer<Permit> onGranted;
+        // 허가는 항상 lock 안에서 지정되므로, 대기열에 없으면 허가를 받은 것
+        private Permit permit;
+
+        private Ticket(Consumer<Permit> onGranted) {
+            this.onGranted = onGranted;
+        }
+
+        private Permit grant() {
+            permit = new Permit(System.nanoTime());
+            return permit;
+        }
+
+        public void cancel() {
+            Permit granted;
+            synchronized (AimdLimiter.this) {
+                if (waiters.remove(this)) {
+                    return;
+                }
+                granted = permit;
+            }
+            if (granted != null) {
+                granted.release(Outcome.IGNORED);
+            }
+        }
+    }
+
+    /**
+     * 실행 허가 - 요청이 끝나면 결과와 함께 한 번 반납합니다. (두 번째 이후 반납은 무시)
+     */
+    public final class Permit {
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        public void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                AimdLimiter.this.release(outcome, startNanos);
+            }
+        }
+    }
+}
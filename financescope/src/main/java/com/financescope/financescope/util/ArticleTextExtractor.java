@@ -0,0 +1,173 @@
+package com.financescope.financescope.util;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기사 원문 페이지에서 본문만 골라내는 추출기
+ *
+ * 주요 언론사 / 포털의 본문 영역 선택자를 먼저 시도하고, 없으면 문단 텍스트가 가장 많이 모인
+ * 블록을 본문으로 고릅니다. 링크 비율이 높은 블록(메뉴, 관련 기사 목록)은 제외합니다.
+ * 블록 점수와 링크 비율에 필요한 텍스트 / 링크 텍스트 길이를 문서 한 번 순회로 함께 계산하므로
+ * 후보 블록마다 하위 트리를 다시 훑지 않습니다.
+ */
+public final class ArticleTextExtractor {
+
+    // 네이버 뉴스, 국내 언론사 CMS 에서 자주 쓰이는 본문 영역
+    private static final List<String> ARTICLE_SELECTORS = List.of(
+            "#dic_area",
+            "#newsct_article",
+            "#articleBodyContents",
+            "#article-view-content-div",
+            "#articleBody",
+            "#article_body",
+            "[itemprop=articleBody]",
+            ".article_body",
+            ".article-body",
+            ".news_body",
+            "article");
+
+    private static final String BOILERPLATE = "script, style, noscript, iframe, form, nav, header, footer, aside, "
+            + "button, select, figure figcaption, .ad, .ads, .advertisement, .copyright, .reporter_area, .byline";
+
+    // 점수를 부모 블록에 넘기는 인라인 / 문단 태그
+    private static final Set<String> PARAGRAPH_TAGS = Set.of("p", "span", "font", "b", "strong", "em", "i");
+
+    private static final int MIN_TEXT_NODE_LENGTH = 20;
+    private static final double MAX_LINK_DENSITY = 0.3;
+
+    private ArticleTextExtractor() {
+    }
+
+    /**
+     * 본문을 추출합니다. minLength 보다 짧으면 본문을 찾지 못한 것으로 보고 null 을 반환합니다.
+     */
+    public static String extract(Document doc, int minLength, int maxLength) {
+        doc.select(BOILERPLATE).remove();
+
+        for (String selector : ARTICLE_SELECTORS) {
+            Element candidate = doc.selectFirst(selector);
+            if (candidate != null) {
+                String text = toText(candidate);
+                if (text.length() >= minLength) {
+                    return truncate(text, maxLength);
+                }
+            }
+        }
+
+        Element best = densestBlock(doc.body());
+        if (best == null) {
+            return null;
+        }
+        String text = toText(best);
+        return text.length() >= minLength ? truncate(text, maxLength) : null;
+    }
+
+    // 긴 텍스트 노드 길이를 담고 있는 블록에 더해, 점수가 가장 높은 블록을 찾음
+    private static Element densestBlock(Element body) {
+        if (body == null) {
+            return null;
+        }
+
+        Map<Element, Integer> scores = new HashMap<>();
+        // 요소별 [텍스트 길이, 링크 텍스트 길이] - 요소 순회가 끝날 때 부모에 더해 올림
+        Map<Element, int[]> lengths = new HashMap<>();
+        NodeTraversor.traverse(new NodeVisitor() {
+            @Override
+            public void head(Node node, int depth) {
+                if (!(node instanceof TextNode textNode) || !(node.parent() instanceof Element parent)) {
+                    return;
+                }
+                String text = textNode.text().trim();
+                lengths.computeIfAbsent(parent, e -> new int[2])[0] += text.length();
+                if (text.length() < MIN_TEXT_NODE_LENGTH || "a".equals(parent.tagName())) {
+                    return;
+                }
+
+                Element block = parent;
+                while (PARAGRAPH_TAGS.contains(block.tagName()) && block.parent() != null) {
+                    block = block.parent();
+                }
+                scores.merge(block, text.length(), Integer::sum);
+            }
+
+            @Override
+            public void tail(Node node, int depth) {
+                if (node == body || !(node instanceof Element element)) {
+                    return;
+                }
+                int[] own = lengths.get(element);
+                if (own == null) {
+                    return;
+                }
+                if ("a".equals(element.tagName())) {
+                    own[1] = own[0];
+                }
+                int[] parent = lengths.computeIfAbsent(element.parent(), e -> new int[2]);
+                parent[0] += own[0];
+                parent[1] += own[1];
+            }
+        }, body);
+
+        Element best = null;
+        int bestScore = 0;
+        for (Map.Entry<Element, Integer> entry : scores.entrySet()) {
+            if (entry.getValue() > bestScore && linkDensity(lengths.get(entry.getKey())) <= MAX_LINK_DENSITY) {
+                best = entry.getKey();
+                bestScore = entry.getValue();
+            }
+        }
+        return best;
+    }
+
+    private static double linkDensity(int[] lengths) {
+        if (lengths == null || lengths[0] == 0) {
+            return 1.0;
+        }
+        return (double) lengths[1] / lengths[0];
+    }
+
+    // <br> / 블록 경계를 줄바꿈으로 살리고 공백을 정리
+    private static String toText(Element element) {
+        StringBuilder sb = new StringBuilder();
+        appendText(element, sb);
+        return sb.toString()
+                .replaceAll("[ \\t\\x0B\\f\\u00A0]+", " ")
+                .replaceAll(" *\\n[\\n ]*", "\n")
+                .trim();
+    }
+
+    private static void appendText(Node node, StringBuilder sb) {
+        for (Node child : node.childNodes()) {
+            if (child instanceof TextNode textNode) {
+                sb.append(textNode.text());
+            } else if (child instanceof Element element) {
+                if ("br".equals(element.tagName())) {
+                    sb.append('\n');
+                    continue;
+                }
+                boolean block = element.isBlock();
+                if (block) {
+                    sb.append('\n');
+                }
+                appendText(element, sb);
+                if (block) {
+                    sb.append('\n');
+                }
+            }
+        }
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() > maxLength ? text.substring(0, maxLength) : text;
+    }
+}
@@ -0,0 +1,150 @@
+package com.financescope.financescope.util;
+
+/**
+ * 출처별 회로 차단기
+ *
+ * 최근 windowSize 개 호출 중 실패 비율이 임계값을 넘으면 열려(OPEN) openDuration 동안 호출을 바로 거절합니다.
+ * 시간이 지나면 반 열림(HALF_OPEN) 상태에서 halfOpenProbes 개의 시험 호출만 허용하고,
+ * 모두 성공하면 닫히고(CLOSED) 하나라도 실패하면 다시 열립니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 회로가 열려 있어 호출하지 않았음을 알리는 예외
+     */
+    public static class OpenException extends RuntimeException {
+        public OpenException(String name) {
+            super("회로 차단 중: " + name);
+        }
+    }
+
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    // 최근 호출 결과 원형 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int next;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public CircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, long openDurationNanos, int halfOpenProbes) {
+        if (windowSize < 1 || minCalls < 1 || failureRateThreshold <= 0 || failureRateThreshold > 1
+                || openDurationNanos <= 0 || halfOpenProbes < 1) {
+            throw new IllegalArgumentException("windowSize / minCalls / openDuration / halfOpenProbes 는 양수, failureRateThreshold 는 (0, 1] 이어야 합니다.");
+        }
+        this.window = new boolean[windowSize];
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 지금 호출해도 되는지 상태를 바꾸지 않고 확인합니다. (열려 있고 대기 시간이 지나지 않았으면 false)
+     */
+    public synchronized boolean isCallPermitted() {
+        return state != State.OPEN || System.nanoTime() - openedAt >= openDurationNanos;
+    }
+
+    /**
+     * 호출 허가를 받습니다. 허가를 받았으면 결과를 onSuccess / onFailure / onIgnored 중 하나로 알려야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (++probeSuccesses >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && calls >= minCalls && (double) failures / calls >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 성공 / 실패로 볼 수 없는 결과(취소 등) - 반 열림 상태의 시험 호출 자리만 돌려줍니다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return calls == 0 ? 0.0 : (double) failures / calls;
+    }
+
+    private void record(boolean failed) {
+        if (calls == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        probesInFlight = 0;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.financescope.financescope.util;
+
+/**
+ * 태그 / HTML 엔티티 제거기
+ *
+ * replaceAll("<[^>]*>", "").replaceAll("&[^;]+;", "").trim() 과 같은 결과를 정규식 없이
+ * 문자 배열 하나에서 두 번 훑어 만듭니다. 지울 것이 없으면 원본 문자열을 그대로 씁니다.
+ */
+public final class HtmlText {
+
+    private HtmlText() {
+    }
+
+    public static String strip(String text) {
+        if (text == null) {
+            return "";
+        }
+        if (text.indexOf('<') < 0 && text.indexOf('&') < 0) {
+            return text.trim();
+        }
+
+        char[] chars = text.toCharArray();
+        int length = removeTags(chars, chars.length);
+        length = removeEntities(chars, length);
+
+        int start = 0;
+        while (start < length && chars[start] <= ' ') {
+            start++;
+        }
+        while (length > start && chars[length - 1] <= ' ') {
+            length--;
+        }
+        return new String(chars, start, length - start);
+    }
+
+    // <...> 제거 - 닫는 '>' 가 없으면 뒤에도 지울 태그가 없으므로 나머지를 그대로 둠
+    private static int removeTags(char[] chars, int length) {
+        int write = 0;
+        for (int read = 0; read < length; read++) {
+            char c = chars[read];
+            if (c == '<') {
+                int close = indexOf(chars, '>', read + 1, length);
+                if (close < 0) {
+                    return copyRest(chars, read, write, length);
+                }
+                read = close;
+                continue;
+            }
+            chars[write++] = c;
+        }
+        return write;
+    }
+
+    // &...; 제거 (& 와 ; 사이에 한 글자 이상) - 뒤에 ';' 가 없으면 나머지를 그대로 둠
+    private static int removeEntities(char[] chars, int length) {
+        int write = 0;
+        for (int read = 0; read < length; read++) {
+            char c = chars[read];
+            if (c == '&' && read + 1 < length && chars[read + 1] != ';') {
+                int end = indexOf(chars, ';', read + 2, length);
+                if (end < 0) {
+                    return copyRest(chars, read, write, length);
+                }
+                read = end;
+                continue;
+            }
+            chars[write++] = c;
+        }
+        return write;
+    }
+
+    private static int copyRest(char[] chars, int read, int write, int length) {
+        System.arraycopy(chars, read, chars, write, length - read);
+        return write + length - read;
+    }
+
+    private static int indexOf(char[] chars, char target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (chars[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,126 @@
+package com.financescope.financescope.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크기 상한과 TTL 이 있는 작업 상태 저장소
+ *
+ * 끝난 작업은 종료 후 ttl 이 지나면 제거되고, 상한에 닿으면 가장 오래된 끝난 작업부터 밀려납니다.
+ * 실행 중인 작업만으로 상한이 가득 차면 새 작업 등록을 거부합니다.
+ */
+public class JobRegistry<V extends JobRegistry.TrackedJob> {
+
+    /**
+     * 저장소가 종료 여부와 종료 시각을 판단할 수 있는 작업 상태
+     */
+    public interface TrackedJob {
+        boolean isFinished();
+
+        LocalDateTime getEndTime();
+    }
+
+    private final int maxJobs;
+    private final Duration ttl;
+    // 등록 순서 유지 (오래된 작업부터 제거)
+    private final Map<String, V> jobs = new LinkedHashMap<>();
+
+    public JobRegistry(int maxJobs, Duration ttl) {
+        this.maxJobs = Math.max(1, maxJobs);
+        this.ttl = ttl;
+    }
+
+    /**
+     * 작업을 등록합니다. 실행 중인 작업만으로 상한이 찼으면 IllegalStateException 을 던집니다.
+     */
+    public synchronized void register(String jobId, V job) {
+        if (jobs.size() >= maxJobs) {
+            evictExpired();
+        }
+        if (jobs.size() >= maxJobs) {
+            evictOldestFinished();
+        }
+        if (jobs.size() >= maxJobs) {
+            throw new IllegalStateException("실행 중인 작업 수가 상한(" + maxJobs + ")에 도달했습니다.");
+        }
+        jobs.put(jobId, job);
+    }
+
+    /**
+     * 작업을 조회합니다. TTL 이 지난 끝난 작업은 제거하고 null 을 반환합니다.
+     */
+    public synchronized V get(String jobId) {
+        V job = jobs.get(jobId);
+        if (job != null && isExpired(job, LocalDateTime.now())) {
+            jobs.remove(jobId);
+            return null;
+        }
+        return job;
+    }
+
+    public synchronized V remove(String jobId) {
+        return jobs.remove(jobId);
+    }
+
+    /**
+     * TTL 이 지난 끝난 작업을 모두 제거하고 제거한 개수를 반환합니다.
+     */
+    public synchronized int evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int evicted = 0;
+        Iterator<V> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            if (isExpired(iterator.next(), now)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public synchronized int size() {
+        return jobs.size();
+    }
+
+    public synchronized int runningCount() {
+        int running = 0;
+        for (V job : jobs.values()) {
+            if (!job.isFinished()) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    // 끝나지 않은 작업 id
+    public synchronized List<String> runningJobIds() {
+        List<String> running = new ArrayList<>();
+        for (Map.Entry<String, V> entry : jobs.entrySet()) {
+            if (!entry.getValue().isFinished()) {
+                running.add(entry.getKey());
+            }
+        }
+        return running;
+    }
+
+    private void evictOldestFinished() {
+        Iterator<V> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private boolean isExpired(V job, LocalDateTime now) {
+        return job.isFinished()
+                && job.getEndTime() != null
+                && job.getEndTime().plus(ttl).isBefore(now);
+    }
+}
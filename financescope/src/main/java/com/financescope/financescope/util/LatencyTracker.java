@@ -0,0 +1,51 @@
+package com.financescope.financescope.util;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 지연 표본 (백분위 계산용)
+ *
+ * 고정 크기 원형 버퍼에 최근 표본만 유지하고, 백분위는 조회할 때 정렬해서 계산합니다.
+ * 조회는 키워드마다 한 번 정도라 표본 수백 개 정렬은 부담이 없습니다.
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    public LatencyTracker(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity 는 양수여야 합니다.");
+        }
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 백분위(0~1) 지연을 나노초로 반환합니다. 표본이 없으면 0.
+     */
+    public long percentile(double quantile) {
+        long[] sorted;
+        synchronized (this) {
+            if (size == 0) {
+                return 0L;
+            }
+            sorted = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
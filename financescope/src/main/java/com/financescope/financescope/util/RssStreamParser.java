@@ -0,0 +1,115 @@
+package com.financescope.financescope.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * RSS &lt;item&gt; 스트리밍 파서 (StAX)
+ *
+ * 문서 전체를 DOM 으로 만들지 않고 next() 를 호출할 때마다 다음 &lt;item&gt; 하나만 읽어 반환합니다.
+ * 호출자가 필요한 개수만큼 읽은 뒤 close() 하면 나머지 문서는 파싱하지 않습니다.
+ * 스레드 안전하지 않으므로 한 문서를 한 스레드에서만 읽어야 합니다.
+ */
+public class RssStreamParser implements Closeable {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createFactory();
+
+    private final XMLStreamReader xml;
+    private final Closeable source;
+
+    private RssStreamParser(XMLStreamReader xml, Closeable source) {
+        this.xml = xml;
+        this.source = source;
+    }
+
+    public static RssStreamParser open(InputStream inputStream) throws XMLStreamException {
+        return new RssStreamParser(XML_INPUT_FACTORY.createXMLStreamReader(inputStream), inputStream);
+    }
+
+    public static RssStreamParser open(Reader reader) throws XMLStreamException {
+        return new RssStreamParser(XML_INPUT_FACTORY.createXMLStreamReader(reader), reader);
+    }
+
+    /**
+     * 다음 item 을 읽어 반환합니다. 문서 끝이면 null 을 반환합니다.
+     */
+    public RssItem next() throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "item".equals(xml.getLocalName())) {
+                return readItem();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            source.close();
+        }
+    }
+
+    private RssItem readItem() throws XMLStreamException {
+        String title = null;
+        String link = null;
+        String description = null;
+        String pubDate = null;
+        String source = null;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+
+            if (event == XMLStreamConstants.END_ELEMENT && "item".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            switch (xml.getLocalName()) {
+                case "title" -> title = xml.getElementText().trim();
+                case "link" -> link = xml.getElementText().trim();
+                case "description" -> description = xml.getElementText().trim();
+                case "pubDate" -> pubDate = xml.getElementText().trim();
+                case "source" -> source = xml.getElementText().trim();
+                default -> skipElement();
+            }
+        }
+
+        return new RssItem(title, link, description, pubDate, source);
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티 / DTD 처리 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    public record RssItem(String title, String link, String description, String pubDate, String source) {
+    }
+}
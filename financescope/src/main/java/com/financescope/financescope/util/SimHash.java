@@ -0,0 +1,125 @@
+package com.financescope.financescope.util;
+
+/**
+ * 64비트 SimHash 지문
+ *
+ * 문자 2-gram 슁글을 64비트로 해시해 비트별로 가중치를 누적하고, 양수인 비트만 1 로 둡니다.
+ * 내용이 거의 같은 문서는 지문의 해밍 거리가 작게 나오므로, 언론사마다 제목 꾸밈말이나
+ * 문장 일부만 다른 같은 기사를 찾는 데 사용합니다.
+ * 한국어는 띄어쓰기 / 조사 변화가 많아 단어 대신 문자 단위 슁글을 씁니다.
+ */
+public final class SimHash {
+
+    // 짧은 요약문에서는 2-gram 이 어미 / 조사 변화에 가장 덜 민감함
+    private static final int SHINGLE_SIZE = 2;
+
+    private SimHash() {
+    }
+
+    /**
+     * 제목과 본문으로 지문을 만듭니다. 제목 슁글은 titleWeight 배로 반영합니다.
+     * 정규화한 텍스트의 슁글 수가 minShingles 보다 적으면 신뢰할 수 없으므로 null 을 반환합니다.
+     */
+    public static Long fingerprint(String title, String body, int titleWeight, int minShingles) {
+        int[] weights = new int[64];
+        int shingles = accumulate(normalize(title), Math.max(1, titleWeight), weights)
+                + accumulate(normalize(body), 1, weights);
+        if (shingles < minShingles) {
+            return null;
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int hammingDistance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static int accumulate(String text, int weight, int[] weights) {
+        if (text.length() < SHINGLE_SIZE) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i + SHINGLE_SIZE <= text.length(); i++) {
+            long hash = shingleHash(text, i);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    // FNV-1a + fmix64 (슁글을 문자열로 만들지 않고 바로 해시)
+    private static long shingleHash(String text, int start) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < start + SHINGLE_SIZE; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 대괄호 머리말([속보] 등), " - 언론사" 꼬리말, 태그 / 문장부호를 지우고 공백을 하나로 줄입니다.
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        int bracketDepth = 0;
+        boolean inTag = false;
+        boolean lastSpace = true;
+
+        String source = stripSourceSuffix(text);
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '<') {
+                inTag = true;
+                continue;
+            }
+            if (inTag) {
+                inTag = c != '>';
+                continue;
+            }
+            if (c == '[') {
+                bracketDepth++;
+                continue;
+            }
+            if (c == ']' && bracketDepth > 0) {
+                bracketDepth--;
+                continue;
+            }
+            if (bracketDepth > 0) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+                lastSpace = false;
+            } else if (!lastSpace) {
+                sb.append(' ');
+                lastSpace = true;
+            }
+        }
+        int length = sb.length();
+        return length > 0 && sb.charAt(length - 1) == ' ' ? sb.substring(0, length - 1) : sb.toString();
+    }
+
+    // 구글 뉴스 제목의 "제목 - 언론사" 형식
+    private static String stripSourceSuffix(String text) {
+        int index = text.lastIndexOf(" - ");
+        return index > 0 && text.length() - index <= 30 ? text.substring(0, index) : text;
+    }
+}
@@ -0,0 +1,138 @@
+package com.financescope.financescope.util;
+
+import java.util.Arrays;
+
+/**
+ * SimHash 근사 중복 검색 인덱스 (밴드 분할)
+ *
+ * 64비트 지문을 bands 개의 밴드로 나눠, 밴드 값마다 같은 값을 가진 항목을 연결 리스트로 묶습니다.
+ * 해밍 거리가 bands - 1 이하인 두 지문은 적어도 한 밴드가 같으므로 반드시 후보로 잡힙니다.
+ * 그보다 먼 지문은 놓칠 수 있으므로 maxDistance 는 bands - 1 까지만 허용합니다. 후보만 실제 거리로 비교합니다.
+ *
+ * 밴드 값을 배열 인덱스로 바로 쓰고 항목은 원형 버퍼의 slot 번호로만 연결하므로
+ * 항목당 객체를 만들지 않습니다. 용량을 넘으면 가장 먼저 넣은 항목부터 지웁니다. 스레드 안전합니다.
+ */
+public class SimHashIndex {
+
+    private static final int EMPTY = -1;
+
+    private final int maxDistance;
+    private final int bands;
+    private final int bandBits;
+    private final long bandMask;
+
+    // 원형 버퍼 (slot → id / 지문)
+    private final long[] ids;
+    private final long[] fingerprints;
+    private int next;
+    private int size;
+
+    // 밴드별 [밴드 값 → 첫 slot], [slot → 같은 밴드 값의 이전 / 다음 slot]
+    private final int[][] heads;
+    private final int[][] nextSlots;
+    private final int[][] prevSlots;
+
+    /**
+     * @param maxDistance 같은 항목으로 볼 최대 해밍 거리 (bands - 1 이하)
+     * @param bands       밴드 수 (4, 8, 16 중 하나 - 밴드가 많을수록 먼 거리도 잘 찾지만 후보가 늘어남)
+     * @param capacity    유지할 최대 항목 수
+     */
+    public SimHashIndex(int maxDistance, int bands, int capacity) {
+        if (bands != 4 && bands != 8 && bands != 16) {
+            throw new IllegalArgumentException("bands 는 4, 8, 16 중 하나여야 합니다.");
+        }
+        if (maxDistance < 0 || maxDistance > bands - 1 || capacity < 1) {
+            throw new IllegalArgumentException("maxDistance 는 0~" + (bands - 1) + ", capacity 는 양수여야 합니다.");
+        }
+        this.maxDistance = maxDistance;
+        this.bands = bands;
+        this.bandBits = 64 / bands;
+        this.bandMask = (1L << bandBits) - 1;
+        this.ids = new long[capacity];
+        this.fingerprints = new long[capacity];
+        this.heads = new int[bands][1 << bandBits];
+        this.nextSlots = new int[bands][capacity];
+        this.prevSlots = new int[bands][capacity];
+        for (int[] head : heads) {
+            Arrays.fill(head, EMPTY);
+        }
+    }
+
+    /**
+     * maxDistance 안에서 가장 가까운 항목의 id 를 반환합니다. 없으면 null.
+     */
+    public synchronized Long findNear(long fingerprint) {
+        Long bestId = null;
+        int bestDistance = maxDistance + 1;
+
+        for (int band = 0; band < bands; band++) {
+            for (int slot = heads[band][bandValue(band, fingerprint)]; slot != EMPTY; slot = nextSlots[band][slot]) {
+                int distance = SimHash.hammingDistance(fingerprint, fingerprints[slot]);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestId = ids[slot];
+                }
+            }
+        }
+        return bestId;
+    }
+
+    /**
+     * maxDistance 안에 항목이 있으면 그 id 를, 없으면 새 항목으로 넣고 자신의 id 를 반환합니다.
+     * 조회와 등록을 한 번에 잠가, 같은 기사가 동시에 들어와도 하나만 대표로 등록됩니다.
+     */
+    public synchronized long findOrAdd(long id, long fingerprint) {
+        Long nearId = findNear(fingerprint);
+        if (nearId != null) {
+            return nearId;
+        }
+        add(id, fingerprint);
+        return id;
+    }
+
+    public synchronized void add(long id, long fingerprint) {
+        int slot = next;
+        if (size == ids.length) {
+            unlink(slot);
+        } else {
+            size++;
+        }
+
+        ids[slot] = id;
+        fingerprints[slot] = fingerprint;
+        for (int band = 0; band < bands; band++) {
+            int value = bandValue(band, fingerprint);
+            int head = heads[band][value];
+            nextSlots[band][slot] = head;
+            prevSlots[band][slot] = EMPTY;
+            if (head != EMPTY) {
+                prevSlots[band][head] = slot;
+            }
+            heads[band][value] = slot;
+        }
+        next = (slot + 1) % ids.length;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void unlink(int slot) {
+        for (int band = 0; band < bands; band++) {
+            int prev = prevSlots[band][slot];
+            int following = nextSlots[band][slot];
+            if (prev == EMPTY) {
+                heads[band][bandValue(band, fingerprints[slot])] = following;
+            } else {
+                nextSlots[band][prev] = following;
+            }
+            if (following != EMPTY) {
+                prevSlots[band][following] = prev;
+            }
+        }
+    }
+
+    private int bandValue(int band, long fingerprint) {
+        return (int) ((fingerprint >>> (band * bandBits)) & bandMask);
+    }
+}
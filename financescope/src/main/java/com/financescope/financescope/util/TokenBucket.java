@@ -0,0 +1,62 @@
+package com.financescope.financescope.util;
+
+/**
+ * 예약 방식의 토큰 버킷
+ *
+ * 토큰이 부족하면 음수로 선차감하고 대기해야 할 시간을 돌려줍니다.
+ * 호출자는 반환된 시간만큼 기다린 뒤 요청을 보내면 되므로,
+ * 블로킹 호출과 리액티브 지연(Mono.delay) 양쪽에서 동일하게 사용할 수 있습니다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int burst, double permitsPerSecond) {
+        if (burst < 1 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("burst와 permitsPerSecond는 양수여야 합니다.");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = permitsPerSecond / 1_000_000_000d;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개를 예약하고, 요청 전 대기해야 할 시간(나노초)을 반환합니다.
+     */
+    public synchronized long reserve() {
+        refill();
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0L;
+        }
+        return (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    /**
+     * 대기 없이 토큰을 얻을 수 있을 때만 차감합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized double getAvailableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
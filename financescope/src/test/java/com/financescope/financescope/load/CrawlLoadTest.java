@@ -0,0 +1,287 @@
+package com.financescope.financescope.load;
+
+import com.financescope.financescope.dto.news.NewsDTO;
+import com.financescope.financescope.entity.User;
+import com.financescope.financescope.repository.NewsRepository;
+import com.financescope.financescope.repository.UserRepository;
+import com.financescope.financescope.service.NewsService;
+import com.financescope.financescope.service.external.NewsCrawlerService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 크롤링 처리량 부하 테스트 (./gradlew loadTest)
+ *
+ * 로컬 대역 서버와 H2 를 상대로 NewsService.startCrawling 부터 DB 저장까지 전체 경로를 실행하고,
+ * 시나리오마다 초당 수집 건수, 작업 지연 p50 / p99, 저장된 행 수를 출력합니다.
+ * 시나리오는 같은 순서와 같은 데이터로 실행되므로 크롤러 변경 전후 결과를 비교할 수 있습니다.
+ * 첫 시나리오가 JIT / 커넥션 풀 / H2 준비 시간을 떠안지 않도록, 측정 전에 장애 없는 워밍업을 한 번 실행합니다.
+ * (장애 주입 비율은 확률이라 요청 수는 실행마다 조금 다를 수 있음)
+ */
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CrawlLoadTest {
+
+    private static final long JOB_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(3);
+
+    private static final UpstreamStandIn upstream = startUpstream();
+
+    private static boolean warmedUp;
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private NewsCrawlerService newsCrawlerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("external-api.news.naver.base-url", upstream::baseUrl);
+        registry.add("external-api.news.naver-search.base-url", upstream::baseUrl);
+        registry.add("external-api.news.google.base-url", upstream::baseUrl);
+    }
+
+    // 측정 시나리오와 같은 경로(API / RSS)를 장애 없이 한 번씩 실행하고 결과는 버림
+    // (장애를 주입하면 회로 차단기 상태가 측정 시나리오로 넘어가므로 웹 대체 경로는 워밍업하지 않음)
+    @BeforeEach
+    void warmUp() {
+        if (warmedUp) {
+            return;
+        }
+        warmedUp = true;
+        run(new Scenario("warm-up-naver-api", "naver", 10, 2, 3, 300));
+        run(new Scenario("warm-up-google", "google", 10, 1, 5, 100));
+        upstream.reset();
+    }
+
+    @AfterEach
+    void resetUpstream() {
+        upstream.reset();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    @Order(1)
+    void naverApiBaseline() {
+        upstream.fault(UpstreamStandIn.NAVER_API, new UpstreamStandIn.Fault(20, 20, 0, 0));
+
+        Report report = run(new Scenario("naver-api-baseline", "naver", 10, 3, 3, 300));
+
+        assertThat(report.failedJobs()).isZero();
+        assertThat(report.rowsWritten()).isEqualTo(10L * 3 * 3 * 300);
+    }
+
+    @Test
+    @Order(2)
+    void naverApiSlowAndThrottled() {
+        upstream.fault(UpstreamStandIn.NAVER_API, new UpstreamStandIn.Fault(80, 120, 0.03, 0.05));
+
+        Report report = run(new Scenario("naver-api-slow-throttled", "naver", 10, 3, 3, 300));
+
+        // 429 / 500 이 난 페이지는 버리거나 웹 수집으로 대체되므로 행 수는 줄 수 있지만 작업은 모두 끝나야 함
+        assertThat(report.failedJobs()).isZero();
+        assertThat(report.rowsWritten()).isPositive();
+    }
+
+    @Test
+    @Order(3)
+    void googleNewsRss() {
+        upstream.fault(UpstreamStandIn.GOOGLE_NEWS, new UpstreamStandIn.Fault(30, 30, 0, 0));
+
+        Report report = run(new Scenario("google-news-rss", "google", 10, 3, 5, 100));
+
+        assertThat(report.failedJobs()).isZero();
+        assertThat(report.rowsWritten()).isEqualTo(10L * 3 * 5 * 10);
+    }
+
+    @Test
+    @Order(4)
+    void naverApiOutageFallsBackToWeb() {
+        upstream.fault(UpstreamStandIn.NAVER_API, new UpstreamStandIn.Fault(50, 0, 1.0, 0));
+        upstream.fault(UpstreamStandIn.NAVER_SEARCH, new UpstreamStandIn.Fault(30, 30, 0, 0));
+
+        Report report = run(new Scenario("naver-api-outage", "naver", 10, 2, 3, 100));
+
+        // 회로가 열린 뒤에는 API 를 호출하지 않고 웹 수집으로 바로 대체
+        assertThat(report.failedJobs()).isZero();
+        assertThat(report.rowsWritten()).isEqualTo(10L * 2 * 3 * 10);
+        assertThat(upstream.requestCount(UpstreamStandIn.NAVER_API)).isLessThan(10L * 2 * 3);
+    }
+
+    /**
+     * @param users          동시에 요청하는 사용자 수 (절반은 PREMIUM, 절반은 ENTERPRISE)
+     * @param jobsPerUser    사용자마다 한 번에 등록하는 작업 수
+     * @param keywordsPerJob 작업당 키워드 수
+     * @param maxResults     키워드당 최대 수집 건수
+     */
+    private record Scenario(String name, String source, int users, int jobsPerUser, int keywordsPerJob, int maxResults) {
+    }
+
+    private record Report(String scenario, int jobs, int failedJobs, long itemsCollected, long rowsWritten,
+                          double itemsPerSecond, long p50Millis, long p99Millis, long elapsedMillis,
+                          Map<String, Long> upstreamRequests) {
+
+        void print() {
+            System.out.printf("%n[부하 테스트] %s%n", scenario);
+            System.out.printf("  작업: %d개 (실패 %d개), 소요: %dms%n", jobs, failedJobs, elapsedMillis);
+            System.out.printf("  수집: %d건, 처리량: %.1f건/s, 저장된 행: %d%n", itemsCollected, itemsPerSecond, rowsWritten);
+            System.out.printf("  작업 지연 p50: %dms, p99: %dms%n", p50Millis, p99Millis);
+            System.out.printf("  대역 서버 요청: %s%n", upstreamRequests);
+        }
+    }
+
+    private record SubmittedJob(String jobId, User user, long submittedAt) {
+    }
+
+    private record CompletedJob(NewsDTO.CrawlStatusResponse status, long latencyMillis) {
+    }
+
+    private Report run(Scenario scenario) {
+        List<User> users = createUsers(scenario);
+        long rowsBefore = newsRepository.count();
+        long started = System.nanoTime();
+
+        // 사용자마다 작업을 몰아서 등록 (대기열 공정성 / 동시 실행 한도가 함께 측정됨)
+        List<SubmittedJob> submitted = new ArrayList<>();
+        for (int job = 0; job < scenario.jobsPerUser(); job++) {
+            for (User user : users) {
+                NewsDTO.CrawlRequest request = NewsDTO.CrawlRequest.builder()
+                        .keywords(keywords(scenario, user, job))
+                        .source(scenario.source())
+                        .sortBy("date")
+                        .maxResults(scenario.maxResults())
+                        .build();
+                String jobId = newsService.startCrawling(request, user.getEmail()).getJobId();
+                submitted.add(new SubmittedJob(jobId, user, System.nanoTime()));
+            }
+        }
+
+        List<CompletedJob> completed = awaitCompletion(submitted);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        long[] latencies = new long[completed.size()];
+        int failed = 0;
+        long items = 0;
+        for (int i = 0; i < completed.size(); i++) {
+            NewsDTO.CrawlStatusResponse status = completed.get(i).status();
+            latencies[i] = completed.get(i).latencyMillis();
+            if (!"COMPLETED".equals(status.getStatus())) {
+                failed++;
+            }
+            items += status.getNewsCount() != null ? status.getNewsCount() : 0;
+        }
+
+        Arrays.sort(latencies);
+        Report report = new Report(scenario.name(), submitted.size(), failed, items,
+                newsRepository.count() - rowsBefore,
+                items * 1000.0 / Math.max(1, elapsed),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), elapsed,
+                Map.of(UpstreamStandIn.NAVER_API, upstream.requestCount(UpstreamStandIn.NAVER_API),
+                        UpstreamStandIn.NAVER_SEARCH, upstream.requestCount(UpstreamStandIn.NAVER_SEARCH),
+                        UpstreamStandIn.GOOGLE_NEWS, upstream.requestCount(UpstreamStandIn.GOOGLE_NEWS)));
+        report.print();
+        return report;
+    }
+
+    // 모든 작업이 끝날 때까지 대기 - 매 주기 남은 작업을 모두 확인해, 각 작업이 처음 완료로 보인 시점을 완료 시각으로 기록 (10ms 단위)
+    private List<CompletedJob> awaitCompletion(List<SubmittedJob> submitted) {
+        Map<SubmittedJob, CompletedJob> completed = new LinkedHashMap<>();
+        long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+        while (true) {
+            for (SubmittedJob job : submitted) {
+                if (completed.containsKey(job)) {
+                    continue;
+                }
+                NewsDTO.CrawlStatusResponse status = newsCrawlerService.getCrawlingStatus(job.jobId(), job.user());
+                if (Boolean.TRUE.equals(status.getCompleted())) {
+                    long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - job.submittedAt());
+                    completed.put(job, new CompletedJob(status, latency));
+                }
+            }
+            if (completed.size() == submitted.size()) {
+                return new ArrayList<>(completed.values());
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("작업이 제한 시간 안에 끝나지 않음: " + (submitted.size() - completed.size()) + "개");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private List<User> createUsers(Scenario scenario) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < scenario.users(); i++) {
+            users.add(userRepository.save(User.builder()
+                    .email(scenario.name() + "-" + i + "@loadtest.local")
+                    .password("loadtest")
+                    .name("부하 테스트 " + i)
+                    .subscriptionPlan(i % 2 == 0 ? User.SubscriptionPlan.PREMIUM : User.SubscriptionPlan.ENTERPRISE)
+                    .build()));
+        }
+        return users;
+    }
+
+    // 시나리오 / 사용자 / 작업마다 다른 키워드 (증분 수집 기준점과 중복 제거가 다른 시나리오에 영향을 주지 않도록)
+    private static List<String> keywords(Scenario scenario, User user, int job) {
+        List<String> keywords = new ArrayList<>();
+        for (int k = 0; k < scenario.keywordsPerJob(); k++) {
+            keywords.add(scenario.name() + "-u" + user.getId() + "-j" + job + "-k" + k);
+        }
+        return keywords;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static UpstreamStandIn startUpstream() {
+        try {
+            return new UpstreamStandIn();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
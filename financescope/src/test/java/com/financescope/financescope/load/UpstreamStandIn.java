@@ -0,0 +1,208 @@
+package com.financescope.financescope.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 부하 테스트용 로컬 대역 서버
+ *
+ * 네이버 검색 API(JSON) / 네이버 뉴스 검색(HTML) / 구글 뉴스 RSS 를 fixtures 의 녹화본으로 응답합니다.
+ * 검색어마다 다른 기사가 나오도록 링크와 제목에 검색어를 넣고, 네이버 API 는 start / display 에 맞춰
+ * 녹화본 항목을 반복해 total 건까지 페이지를 만들어 줍니다.
+ * 경로별로 응답 지연, 500 / 429 응답 비율을 바꿀 수 있습니다.
+ */
+class UpstreamStandIn implements AutoCloseable {
+
+    static final String NAVER_API = "naver-api";
+    static final String NAVER_SEARCH = "naver-search";
+    static final String GOOGLE_NEWS = "google-news";
+
+    private static final DateTimeFormatter NAVER_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+    private static final ZonedDateTime BASE_TIME = ZonedDateTime.parse("2025-10-13T18:00:00+09:00");
+
+    /**
+     * 경로별 장애 주입 설정
+     *
+     * @param latencyMillis  기본 응답 지연
+     * @param jitterMillis   추가 지연 (0 ~ jitter 균등 분포)
+     * @param errorRate      500 응답 비율
+     * @param throttleRate   429 응답 비율
+     */
+    record Fault(long latencyMillis, long jitterMillis, double errorRate, double throttleRate) {
+        static final Fault NONE = new Fault(0, 0, 0, 0);
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ArrayNode naverApiItems;
+    private final String naverSearchHtml;
+    private final String googleNewsRss;
+    private final Map<String, Fault> faults = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private volatile int naverApiTotal = 1000;
+
+    UpstreamStandIn() throws IOException {
+        naverApiItems = (ArrayNode) objectMapper.readTree(fixture("naver-api-news.json")).get("items");
+        naverSearchHtml = fixture("naver-search-news.html");
+        googleNewsRss = fixture("google-news-rss.xml");
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 지연 주입 중에도 요청을 막지 않도록 요청마다 가상 스레드 사용
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/search/news.json", exchange -> handle(exchange, NAVER_API, this::naverApiPage));
+        server.createContext("/search.naver", exchange -> handle(exchange, NAVER_SEARCH,
+                query -> new Response("text/html; charset=UTF-8", withQuery(naverSearchHtml, query))));
+        server.createContext("/rss/search", exchange -> handle(exchange, GOOGLE_NEWS,
+                query -> new Response("application/rss+xml; charset=UTF-8", withQuery(googleNewsRss, query))));
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void fault(String route, Fault fault) {
+        faults.put(route, fault);
+    }
+
+    void naverApiTotal(int total) {
+        this.naverApiTotal = total;
+    }
+
+    void reset() {
+        faults.clear();
+        requestCounts.clear();
+        naverApiTotal = 1000;
+    }
+
+    long requestCount(String route) {
+        AtomicLong count = requestCounts.get(route);
+        return count != null ? count.get() : 0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private record Response(String contentType, String body) {
+    }
+
+    private interface Handler {
+        Response respond(Map<String, String> query) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, String route, Handler handler) throws IOException {
+        try (exchange) {
+            requestCounts.computeIfAbsent(route, r -> new AtomicLong()).incrementAndGet();
+            Fault fault = faults.getOrDefault(route, Fault.NONE);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            long delay = fault.latencyMillis() + (fault.jitterMillis() > 0 ? random.nextLong(fault.jitterMillis() + 1) : 0);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            double roll = random.nextDouble();
+            if (roll < fault.throttleRate()) {
+                send(exchange, 429, new Response("application/json", "{\"errorMessage\":\"Rate limit exceeded\"}"));
+                return;
+            }
+            if (roll < fault.throttleRate() + fault.errorRate()) {
+                send(exchange, 500, new Response("application/json", "{\"errorMessage\":\"System error\"}"));
+                return;
+            }
+            send(exchange, 200, handler.respond(queryParams(exchange)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 녹화본 항목을 반복해 [start, start + display) 구간을 만듦 - 최신 기사부터 발행 시각이 1분씩 이전
+    private Response naverApiPage(Map<String, String> query) throws IOException {
+        String keyword = query.getOrDefault("query", "");
+        int start = Integer.parseInt(query.getOrDefault("start", "1"));
+        int display = Integer.parseInt(query.getOrDefault("display", "10"));
+        int total = naverApiTotal;
+
+        ObjectNode page = objectMapper.createObjectNode();
+        page.put("lastBuildDate", NAVER_DATE_FORMAT.format(BASE_TIME));
+        page.put("total", total);
+        page.put("start", start);
+        page.put("display", display);
+        ArrayNode items = page.putArray("items");
+        for (int index = start - 1; index < Math.min(total, start - 1 + display); index++) {
+            ObjectNode item = ((ObjectNode) naverApiItems.get(index % naverApiItems.size())).deepCopy();
+            String suffix = "?q=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8) + "&n=" + index;
+            item.put("title", item.get("title").asText() + " " + keyword + " " + index);
+            item.put("link", item.get("link").asText() + suffix);
+            item.put("originallink", item.get("originallink").asText() + suffix);
+            item.put("pubDate", NAVER_DATE_FORMAT.format(BASE_TIME.minusMinutes(index)));
+            items.add(item);
+        }
+        return new Response("application/json; charset=UTF-8", objectMapper.writeValueAsString(page));
+    }
+
+    private static String withQuery(String template, Map<String, String> query) {
+        String keyword = query.getOrDefault("query", query.getOrDefault("q", ""));
+        return template.replace("{{query}}", URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, Response response) throws IOException {
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", response.contentType());
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> queryParams(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String fixture(String name) {
+        try (InputStream in = UpstreamStandIn.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.financescope.financescope.service;
+
+import com.financescope.financescope.config.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CacheService.getOrLoad 테스트 (동시 미스 합치기, 실패 캐시, 미리 갱신)
+ *
+ * 실패 캐시 시간(app.cache.negative-expiry)은 1초로 둡니다.
+ */
+class CacheServiceTest {
+
+    private static final long NEGATIVE_EXPIRY_SECONDS = 1;
+
+    private ScheduledExecutorService scheduler;
+    private CacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newScheduledThreadPool(1);
+        cacheService = new CacheService(1 << 20, NEGATIVE_EXPIRY_SECONDS, new CacheConfig(), scheduler,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheService.shutdown();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        int callers = 32;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cacheService.getOrLoad("key", 60, () -> {
+                        loads.incrementAndGet();
+                        sleep(200);
+                        return "value";
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void failureIsRethrownUntilNegativeExpiryThenRetried() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThatThrownBy(() -> cacheService.getOrLoad("key", 60, () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // 실패 캐시 기간에는 loader 를 부르지 않고 같은 예외를 다시 던짐
+        assertThatThrownBy(() -> cacheService.getOrLoad("key", 60, () -> {
+            loads.incrementAndGet();
+            return "value";
+        })).isInstanceOf(IllegalStateException.class).hasMessage("upstream down");
+        assertThat(loads).hasValue(1);
+        assertThat(cacheService.hasKey("key")).isFalse();
+
+        sleep(TimeUnit.SECONDS.toMillis(NEGATIVE_EXPIRY_SECONDS) + 200);
+
+        assertThat(cacheService.getOrLoad("key", 60, () -> {
+            loads.incrementAndGet();
+            return "value";
+        })).isEqualTo("value");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void refreshAheadReturnsStaleValueWhileReloadingOnce() throws Exception {
+        assertThat(cacheService.getOrLoad("key", 2, 2, () -> "old")).isEqualTo("old");
+
+        // 남은 만료 시간이 항상 미리 갱신 구간 안이므로 이후 조회마다 갱신 대상
+        AtomicInteger reloads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(cacheService.getOrLoad("key", 2, 2, () -> {
+                reloads.incrementAndGet();
+                await(release);
+                return "new";
+            })).isEqualTo("old");
+        }
+        release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!"new".equals(cacheService.get("key")) && System.nanoTime() < deadline) {
+            sleep(20);
+        }
+        assertThat(cacheService.get("key")).isEqualTo("new");
+        assertThat(reloads).hasValue(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.financescope.financescope.service.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financescope.financescope.dto.news.NewsDTO;
+import com.financescope.financescope.entity.CrawlTask;
+import com.financescope.financescope.repository.CrawlJobRepository;
+import com.financescope.financescope.repository.CrawlTaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 분산 크롤링 대기열 테스트 (H2 내장 DB, MySQL 호환 모드)
+ *
+ * nodeA / nodeB 는 같은 DB 를 공유하는 두 인스턴스를 흉내 냅니다. (인스턴스 id 가 서로 다름)
+ * 트랜잭션 간 잠금을 확인해야 하므로 테스트 메서드는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = CrawlTaskQueueTest.Config.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:crawltask;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.crawling.distributed.enabled=true",
+        "app.crawling.distributed.lease-duration=60000",
+        "app.crawling.distributed.max-attempts=2",
+        "app.crawling.scheduler.max-queued-jobs-per-user=3"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CrawlTaskQueueTest {
+
+    // @Configuration 을 붙이면 애플리케이션의 컴포넌트 스캔에 잡혀 다른 테스트 컨텍스트에 섞이므로 붙이지 않음
+    @EntityScan(basePackageClasses = CrawlTask.class)
+    @EnableJpaRepositories(basePackageClasses = CrawlTaskRepository.class)
+    @EnableJpaAuditing
+    static class Config {
+
+        @Bean
+        CrawlTaskQueue nodeA(CrawlJobRepository crawlJobRepository, CrawlTaskRepository crawlTaskRepository) {
+            return new CrawlTaskQueue(crawlJobRepository, crawlTaskRepository, new ObjectMapper());
+        }
+
+        @Bean
+        CrawlTaskQueue nodeB(CrawlJobRepository crawlJobRepository, CrawlTaskRepository crawlTaskRepository) {
+            return new CrawlTaskQueue(crawlJobRepository, crawlTaskRepository, new ObjectMapper());
+        }
+    }
+
+    @Autowired
+    private CrawlTaskQueue nodeA;
+
+    @Autowired
+    private CrawlTaskQueue nodeB;
+
+    @Autowired
+    private CrawlJobRepository crawlJobRepository;
+
+    @Autowired
+    private CrawlTaskRepository crawlTaskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        crawlTaskRepository.deleteAll();
+        crawlJobRepository.deleteAll();
+    }
+
+    @Test
+    void lockedTasksAreSkippedByOtherInstances() throws Exception {
+        String jobId = enqueue(1L, 20);
+        CountDownLatch claimedByA = new CountDownLatch(1);
+        CountDownLatch releaseA = new CountDownLatch(1);
+
+        // nodeA 가 임대한 트랜잭션을 커밋하지 않고 붙잡고 있는 동안 nodeB 가 임대
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<CrawlTaskQueue.ClaimedTask>> holding = executor.submit(() ->
+                    new TransactionTemplate(transactionManager).execute(status -> {
+                        List<CrawlTaskQueue.ClaimedTask> claimed = nodeA.claim(5);
+                        claimedByA.countDown();
+                        await(releaseA);
+                        return claimed;
+                    }));
+            assertThat(claimedByA.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<CrawlTaskQueue.ClaimedTask> claimedByB = CompletableFuture.supplyAsync(() -> nodeB.claim(5))
+                    .get(5, TimeUnit.SECONDS);
+            releaseA.countDown();
+            List<CrawlTaskQueue.ClaimedTask> heldByA = holding.get(5, TimeUnit.SECONDS);
+
+            assertThat(heldByA).hasSize(5);
+            assertThat(claimedByB).hasSize(5);
+            assertThat(taskIds(claimedByB)).doesNotContainAnyElementsOf(taskIds(heldByA));
+            assertThat(crawlTaskRepository.findAll())
+                    .filteredOn(task -> CrawlTaskQueue.LEASED.equals(task.getStatus()))
+                    .extracting(CrawlTask::getLeaseOwner)
+                    .containsOnly(nodeA.getInstanceId(), nodeB.getInstanceId())
+                    .hasSize(10);
+            assertThat(nodeA.snapshot(jobId).orElseThrow().status()).isEqualTo(CrawlTaskQueue.RUNNING);
+        } finally {
+            releaseA.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentClaimsHandOutEveryTaskExactlyOnce() throws Exception {
+        enqueue(1L, 30);
+        enqueue(2L, 30);
+        Set<Long> claimed = ConcurrentHashMap.newKeySet();
+        List<Long> duplicates = new ArrayList<>();
+
+        List<Future<?>> workers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                CrawlTaskQueue node = i % 2 == 0 ? nodeA : nodeB;
+                workers.add(executor.submit(() -> {
+                    List<CrawlTaskQueue.ClaimedTask> batch;
+                    while (!(batch = node.claim(3)).isEmpty()) {
+                        for (CrawlTaskQueue.ClaimedTask task : batch) {
+                            if (!claimed.add(task.taskId())) {
+                                synchronized (duplicates) {
+                                    duplicates.add(task.taskId());
+                                }
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(duplicates).isEmpty();
+        assertThat(claimed).hasSize(60);
+    }
+
+    @Test
+    void jobCompletesWhenLastKeywordFinishes() {
+        String jobId = enqueue(1L, 3);
+        List<CrawlTaskQueue.ClaimedTask> tasks = nodeA.claim(10);
+        assertThat(tasks).hasSize(3);
+        assertThat(tasks.get(0).request().getKeywords()).containsExactly(tasks.get(0).keyword());
+
+        nodeA.complete(tasks.get(0), 10);
+        CrawlTaskQueue.JobSnapshot running = nodeA.complete(tasks.get(1), 5).orElseThrow();
+        assertThat(running.status()).isEqualTo(CrawlTaskQueue.RUNNING);
+        assertThat(running.progress()).isEqualTo(66);
+        assertThat(running.newsCount()).isEqualTo(15);
+
+        // 시도 횟수가 남은 실패는 대기열로 돌아가 다른 인스턴스가 재시도
+        nodeA.fail(tasks.get(2), "저장 실패");
+        List<CrawlTaskQueue.ClaimedTask> retried = nodeB.claim(10);
+        assertThat(retried).extracting(CrawlTaskQueue.ClaimedTask::attempt).containsExactly(2);
+
+        CrawlTaskQueue.JobSnapshot finished = nodeB.complete(retried.get(0), 7).orElseThrow();
+        assertThat(finished.status()).isEqualTo(CrawlTaskQueue.COMPLETED);
+        assertThat(finished.progress()).isEqualTo(100);
+        assertThat(nodeB.snapshot(jobId).orElseThrow().newsCount()).isEqualTo(22);
+        assertThat(crawlJobRepository.findById(jobId).orElseThrow().getEndedAt()).isNotNull();
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndStaleOwnerIsIgnored() {
+        String jobId = enqueue(1L, 1);
+        CrawlTaskQueue.ClaimedTask byA = nodeA.claim(1).get(0);
+        assertThat(nodeB.claim(1)).isEmpty();
+
+        expireLease(byA.taskId());
+        CrawlTaskQueue.ClaimedTask byB = nodeB.claim(1).get(0);
+        assertThat(byB.taskId()).isEqualTo(byA.taskId());
+        assertThat(byB.attempt()).isEqualTo(2);
+
+        // 임대를 잃은 nodeA 는 연장도 결과 기록도 할 수 없음
+        assertThat(nodeA.renew(byA.taskId())).isFalse();
+        assertThat(nodeA.complete(byA, 100)).isEmpty();
+        assertThat(nodeB.renew(byB.taskId())).isTrue();
+
+        CrawlTaskQueue.JobSnapshot finished = nodeB.complete(byB, 3).orElseThrow();
+        assertThat(finished.status()).isEqualTo(CrawlTaskQueue.COMPLETED);
+        assertThat(nodeA.snapshot(jobId).orElseThrow().newsCount()).isEqualTo(3);
+    }
+
+    @Test
+    void taskExceedingMaxAttemptsFailsTheJob() {
+        String jobId = enqueue(1L, 1);
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            CrawlTaskQueue.ClaimedTask task = nodeA.claim(1).get(0);
+            assertThat(task.attempt()).isEqualTo(attempt);
+            expireLease(task.taskId());
+        }
+
+        assertThat(nodeB.claim(1)).isEmpty();
+        CrawlTaskQueue.JobSnapshot snapshot = nodeB.snapshot(jobId).orElseThrow();
+        assertThat(snapshot.status()).isEqualTo(CrawlTaskQueue.FAILED);
+        assertThat(snapshot.isFinished()).isTrue();
+        assertThat(snapshot.error()).isNotBlank();
+    }
+
+    @Test
+    void cancelStopsPendingAndLeasedTasks() {
+        String jobId = enqueue(1L, 3);
+        CrawlTaskQueue.ClaimedTask running = nodeA.claim(1).get(0);
+
+        assertThat(nodeB.cancel(jobId)).isTrue();
+
+        assertThat(nodeA.renew(running.taskId())).isFalse();
+        assertThat(nodeA.complete(running, 5)).isEmpty();
+        assertThat(nodeB.claim(10)).isEmpty();
+        assertThat(nodeA.snapshot(jobId).orElseThrow().status()).isEqualTo(CrawlTaskQueue.CANCELLED);
+        assertThat(nodeA.cancel(jobId)).isFalse();
+    }
+
+    @Test
+    void claimsAreSharedAcrossUsersByWeight() {
+        // 사용자 1 이 먼저 작업을 몰아 넣어도 뒤에 온 사용자 2 / 3 이 가중치 비율대로 함께 임대됨
+        enqueue(1L, 1, 3);
+        enqueue(1L, 1, 3);
+        enqueue(1L, 1, 3);
+        enqueue(2L, 1, 5);
+        enqueue(3L, 3, 5);
+
+        List<CrawlTaskQueue.ClaimedTask> first = nodeA.claim(5);
+        assertThat(first).extracting(CrawlTaskQueue.ClaimedTask::userId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 3L, 3L);
+
+        // 실행 중인 키워드 수까지 반영해 다음 차례를 정함 (다른 인스턴스에서도 같은 판단)
+        List<CrawlTaskQueue.ClaimedTask> second = nodeB.claim(5);
+        assertThat(second).extracting(CrawlTaskQueue.ClaimedTask::userId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 3L, 1L);
+    }
+
+    @Test
+    void rejectsJobsBeyondPerUserQueueLimit() {
+        for (int i = 0; i < 3; i++) {
+            enqueue(7L, 1);
+        }
+        enqueue(null, 1);
+
+        assertThatThrownBy(() -> enqueue(7L, 1))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    private String enqueue(Long userId, int keywords) {
+        return enqueue(userId, 1, keywords);
+    }
+
+    private String enqueue(Long userId, int weight, int keywords) {
+        String jobId = UUID.randomUUID().toString();
+        List<String> keywordList = new ArrayList<>();
+        for (int i = 0; i < keywords; i++) {
+            keywordList.add("키워드-" + i);
+        }
+        nodeA.enqueue(jobId, userId, weight, NewsDTO.CrawlRequest.builder()
+                .keywords(keywordList)
+                .source("naver")
+                .sortBy("date")
+                .maxResults(100)
+                .build());
+        return jobId;
+    }
+
+    // 인스턴스가 죽어 연장하지 못한 것처럼 임대 만료 시각을 과거로 옮김
+    private void expireLease(long taskId) {
+        CrawlTask task = crawlTaskRepository.findById(taskId).orElseThrow();
+        task.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+        crawlTaskRepository.save(task);
+    }
+
+    private static Set<Long> taskIds(List<CrawlTaskQueue.ClaimedTask> tasks) {
+        Set<Long> ids = new HashSet<>();
+        tasks.forEach(task -> ids.add(task.taskId()));
+        return ids;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.financescope.financescope.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * HtmlText.strip 이 예전 정규식 두 번(replaceAll) + trim 과 같은 결과를 내는지 확인합니다.
+ * 콘텐츠 해시(중복 판별 / 기준점)가 정리된 제목에 의존하므로 결과가 한 글자라도 달라지면 안 됩니다.
+ */
+class HtmlTextTest {
+
+    private static final char[] ALPHABET = {'<', '>', '&', ';', '/', 'a', 'b', ' ', '\t', '가'};
+
+    static Stream<Arguments> cases() {
+        return Stream.of(
+                arguments(null, ""),
+                arguments("", ""),
+                arguments("  삼성전자  ", "삼성전자"),
+                arguments("<b>삼성</b>전자", "삼성전자"),
+                arguments("<b>&quot;반도체&quot;</b> 수출", "반도체 수출"),
+                // 닫히지 않은 '<' 는 그대로 둠
+                arguments("a < b", "a < b"),
+                arguments("x <a href=\"y\"", "x <a href=\"y\""),
+                arguments("a <b>c <d", "a c <d"),
+                // 중첩 태그 - 첫 '>' 에서 태그가 끝나므로 바깥 '>' 는 남음
+                arguments("<a <b>>text</a>", ">text"),
+                arguments("<<b>>x", ">x"),
+                arguments("<div><p>본문</p></div>", "본문"),
+                // '&' 와 ';' 사이가 비면 엔티티가 아님
+                arguments("&;", "&;"),
+                arguments("a &; b", "a &; b"),
+                // ';' 가 없는 '&' 는 그대로 둠
+                arguments("AT&T", "AT&T"),
+                arguments("R&D &", "R&D &"),
+                arguments("&amp;&lt;", ""),
+                arguments("&&amp;", ""),
+                arguments("a & b; c", "a  c"),
+                // 태그를 먼저 지운 뒤 엔티티를 지움
+                arguments("&<b>amp;", ""),
+                arguments("  <p> </p>  ", "")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void stripsTagsAndEntities(String input, String expected) {
+        assertThat(HtmlText.strip(input)).isEqualTo(expected);
+        if (input != null) {
+            assertThat(HtmlText.strip(input)).isEqualTo(regexStrip(input));
+        }
+    }
+
+    @Test
+    void matchesRegexOnRandomInput() {
+        Random random = new Random(20240519L);
+        for (int i = 0; i < 200_000; i++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+            String input = new String(chars);
+            assertThat(HtmlText.strip(input)).as("입력: [%s]", input).isEqualTo(regexStrip(input));
+        }
+    }
+
+    private static String regexStrip(String text) {
+        return text.replaceAll("<[^>]*>", "").replaceAll("&[^;]+;", "").trim();
+    }
+}
@@ -0,0 +1,139 @@
+package com.financescope.financescope.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SimHashIndex 테스트 (밴드 보장 거리, 용량 초과 시 밀어내기, 조회 + 등록 원자성)
+ */
+class SimHashIndexTest {
+
+    @Test
+    void findsPairAtDistanceBandsMinusOne() {
+        SimHashIndex index = new SimHashIndex(7, 8, 16);
+        long fingerprint = 0x0123_4567_89AB_CDEFL;
+        index.add(1, fingerprint);
+
+        // 8개 밴드 중 7개에서 한 비트씩 달라 같은 밴드는 하나뿐
+        long sevenBandsOff = fingerprint;
+        for (int band = 0; band < 7; band++) {
+            sevenBandsOff ^= 1L << (band * 8);
+        }
+        assertThat(SimHash.hammingDistance(fingerprint, sevenBandsOff)).isEqualTo(7);
+        assertThat(index.findNear(sevenBandsOff)).isEqualTo(1L);
+
+        // 모든 밴드가 다르면(거리 8) maxDistance 밖
+        assertThat(index.findNear(sevenBandsOff ^ (1L << 56))).isNull();
+    }
+
+    @Test
+    void evictsOldestEntryAtCapacity() {
+        SimHashIndex index = new SimHashIndex(3, 8, 3);
+        // 밴드 0 을 모두 같게 두어 같은 연결 리스트에 묶이게 함
+        long[] fingerprints = {0x0000_0000_0000_0011L, 0x0000_0000_FF00_0011L, 0x00FF_FF00_0000_0011L,
+                0xFF00_00FF_0000_0011L};
+        for (int i = 0; i < fingerprints.length; i++) {
+            index.add(i + 1, fingerprints[i]);
+        }
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.findNear(fingerprints[0])).isNull();
+        assertThat(index.findNear(fingerprints[1])).isEqualTo(2L);
+        assertThat(index.findNear(fingerprints[2])).isEqualTo(3L);
+        assertThat(index.findNear(fingerprints[3])).isEqualTo(4L);
+
+        // 밀려난 자리를 다시 쓴 뒤에도 연결이 끊기지 않음
+        index.add(5, fingerprints[0]);
+        assertThat(index.findNear(fingerprints[1])).isNull();
+        assertThat(index.findNear(fingerprints[0])).isEqualTo(5L);
+        assertThat(index.findNear(fingerprints[3])).isEqualTo(4L);
+    }
+
+    @Test
+    void matchesBruteForceOverRecentEntriesAfterEvictions() {
+        int capacity = 50;
+        SimHashIndex index = new SimHashIndex(7, 8, capacity);
+        Deque<long[]> recent = new ArrayDeque<>();
+        Random random = new Random(42);
+
+        // 몇 개의 기준 지문 근처에 몰아 넣어 밴드 연결 리스트가 길어지고 중간 항목이 밀려나게 함
+        long[] bases = {random.nextLong(), random.nextLong(), random.nextLong()};
+        for (long id = 1; id <= 1000; id++) {
+            long fingerprint = flipBits(bases[random.nextInt(bases.length)], random.nextInt(12), random);
+            index.add(id, fingerprint);
+            recent.addLast(new long[]{id, fingerprint});
+            if (recent.size() > capacity) {
+                recent.removeFirst();
+            }
+
+            long query = flipBits(bases[random.nextInt(bases.length)], random.nextInt(12), random);
+            Long found = index.findNear(query);
+            int best = 8;
+            for (long[] entry : recent) {
+                best = Math.min(best, SimHash.hammingDistance(query, entry[1]));
+            }
+            if (best > 7) {
+                assertThat(found).isNull();
+            } else {
+                assertThat(found).isNotNull();
+                long foundFingerprint = recent.stream().filter(entry -> entry[0] == found).findFirst()
+                        .orElseThrow(() -> new AssertionError("밀려난 항목이 조회됨: " + found))[1];
+                assertThat(SimHash.hammingDistance(query, foundFingerprint)).isEqualTo(best);
+            }
+        }
+        assertThat(index.size()).isEqualTo(capacity);
+    }
+
+    @Test
+    void concurrentFindOrAddRegistersOneCanonical() throws Exception {
+        SimHashIndex index = new SimHashIndex(7, 8, 100);
+        long fingerprint = 0x7E57_0000_1234_ABCDL;
+        int callers = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> canonicalIds = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                long id = i + 1;
+                long nearCopy = fingerprint ^ (1L << i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    canonicalIds.add(index.findOrAdd(id, nearCopy));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(canonicalIds).hasSize(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static long flipBits(long fingerprint, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            fingerprint ^= 1L << random.nextInt(64);
+        }
+        return fingerprint;
+    }
+}